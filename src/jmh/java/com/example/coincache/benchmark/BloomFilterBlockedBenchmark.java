@@ -0,0 +1,131 @@
+package com.example.coincache.benchmark;
+
+import com.example.coincache.cache.BlockedBloomFilter;
+import com.example.coincache.cache.BloomFilter;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BloomFilter vs BlockedBloomFilter 조회 처리량 + 실측 FPP (./gradlew jmh -PjmhIncludes=BloomFilterBlocked)
+ *
+ * - entries: 필터에 넣은 키 수 (fpp 0.01 기준 1M ≈ 1.2MB, 10M ≈ 12MB, 100M ≈ 120MB)
+ *   L2/L3보다 커지는 구간에서 부정 조회의 캐시 미스 차이가 드러남
+ * - *Negative: 없는 키 조회 (Penetration 차단 경로), *Positive: 있는 키 조회 (k개 비트 모두 확인)
+ * - 실측 FPP는 Trial 셋업에서 없는 키 1M개로 계산해 *Negative 결과의 보조 지표(bloomFpp, blockedFpp)로 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class BloomFilterBlockedBenchmark {
+
+    private static final double FPP = 0.01d;
+    private static final int PROBES = 1 << 12;
+    private static final int FPP_PROBES = 1_000_000;
+
+    @Param({"1000000", "10000000", "100000000"})
+    private int entries;
+
+    private BloomFilter bloomFilter;
+    private BlockedBloomFilter blockedFilter;
+    private String[] present;
+    private String[] absent;
+    private double bloomFpp;
+    private double blockedFpp;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        bloomFilter = new BloomFilter(entries, FPP);
+        blockedFilter = new BlockedBloomFilter(entries, FPP);
+        for (int i = 0; i < entries; i++) {
+            String key = key(i);
+            bloomFilter.put(key);
+            blockedFilter.put(key);
+        }
+
+        present = new String[PROBES];
+        absent = new String[PROBES];
+        long stride = Math.max(1, entries / PROBES);
+        for (int i = 0; i < PROBES; i++) {
+            present[i] = key((int) ((i * stride) % entries));
+            absent[i] = "ABSENT_" + i;
+        }
+
+        int bloomHits = 0;
+        int blockedHits = 0;
+        for (int i = 0; i < FPP_PROBES; i++) {
+            String key = "MISS_" + i;
+            if (bloomFilter.mightContain(key)) {
+                bloomHits++;
+            }
+            if (blockedFilter.mightContain(key)) {
+                blockedHits++;
+            }
+        }
+        bloomFpp = (double) bloomHits / FPP_PROBES;
+        blockedFpp = (double) blockedHits / FPP_PROBES;
+    }
+
+    @Benchmark
+    public boolean bloomNegative(Cursor cursor, Fpp fpp) {
+        return bloomFilter.mightContain(absent[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean blockedNegative(Cursor cursor, Fpp fpp) {
+        return blockedFilter.mightContain(absent[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean bloomPositive(Cursor cursor) {
+        return bloomFilter.mightContain(present[cursor.next()]);
+    }
+
+    @Benchmark
+    public boolean blockedPositive(Cursor cursor) {
+        return blockedFilter.mightContain(present[cursor.next()]);
+    }
+
+    private static String key(int i) {
+        return "PAIR_" + i;
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int index;
+
+        int next() {
+            index = (index + 1) & (PROBES - 1);
+            return index;
+        }
+    }
+
+    /**
+     * 실측 FPP를 보조 지표로 노출 (EVENTS는 스레드 합산이므로 기본 1스레드 기준)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Fpp {
+
+        public double bloomFpp;
+        public double blockedFpp;
+
+        @Setup(Level.Iteration)
+        public void setUp(BloomFilterBlockedBenchmark benchmark) {
+            bloomFpp = benchmark.bloomFpp;
+            blockedFpp = benchmark.blockedFpp;
+        }
+    }
+}
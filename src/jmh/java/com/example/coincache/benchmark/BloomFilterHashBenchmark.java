@@ -0,0 +1,79 @@
+package com.example.coincache.benchmark;
+
+import com.example.coincache.cache.BloomFilter;
+import com.example.coincache.cache.Murmur3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bloom Filter 해시 비용 비교 (./gradlew jmh -PjmhIncludes=BloomFilterHash)
+ *
+ * - md5Hash128: 이전 구현 (ThreadLocal MessageDigest + getBytes + digest + ByteBuffer + long[])
+ * - murmur3Hash128: 현재 구현 (char 직접 해시, 결과 버퍼 재사용)
+ * - mightContain: 필터 조회 전체 (해시 + 비트 확인)
+ * bytes/op는 gc 프로파일러의 gc.alloc.rate.norm 항목
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BloomFilterHashBenchmark {
+
+    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("MD5 not available", e);
+        }
+    });
+
+    @Param({"BTC", "SYMBOL_000123"})
+    private String symbol;
+
+    private final long[] hashes = new long[2];
+    private BloomFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> symbols = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            symbols.add(String.format("SYMBOL_%06d", i));
+        }
+        symbols.add("BTC");
+        filter = BloomFilter.from(symbols, 0.01d);
+    }
+
+    @Benchmark
+    public long[] md5Hash128() {
+        MessageDigest md = MD5.get();
+        md.reset();
+        byte[] digest = md.digest(symbol.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        return new long[]{buffer.getLong(), buffer.getLong()};
+    }
+
+    @Benchmark
+    public long[] murmur3Hash128() {
+        Murmur3.hash128(symbol, 0, hashes);
+        return hashes;
+    }
+
+    @Benchmark
+    public boolean mightContain() {
+        return filter.mightContain(symbol);
+    }
+}
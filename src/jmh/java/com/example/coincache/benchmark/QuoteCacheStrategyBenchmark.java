@@ -0,0 +1,218 @@
+package com.example.coincache.benchmark;
+
+import com.example.coincache.CoinCacheApplication;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.repository.InMemoryCoinQuoteRepository;
+import com.example.coincache.service.QuoteCacheService;
+import com.example.coincache.service.ReadStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스탬피드 방지 전략별 조회 처리량/지연 분위수 (./gradlew jmh -PjmhIncludes=QuoteCacheStrategy)
+ *
+ * - strategy: getQuoteWithDistributedLock / getQuoteWithSingleFlight / getQuoteWithLogicalExpire
+ * - workload
+ *   HIT_ONLY: 미리 적재한 키 10,000개를 무작위 조회 (TTL 1시간)
+ *   MISS_HEAVY: 원천 키를 순서대로 한 번씩만 조회, 반복(iteration)마다 Redis를 비움
+ *     키 수는 반복 하나에서 나올 수 있는 최대 미스 수(스레드 64 x 3초 / 원천 지연 2ms)의 두 배
+ *     반복 시간을 늘려 키가 모자라면 히트로 섞이지 않게 실패시킴
+ *   EXPIRY_STORM: 핫 키 16개를 TTL 1초(Jitter 없음, 논리 만료 1초)로 적재해 매초 한꺼번에 만료
+ * - threads: 1 / 8 / 64 (메서드별 @Threads)
+ * - threadsN: Throughput(ops/s), sampledN: SampleTime(p50/p99/p999/max, us/op), bytes/op는 gc 프로파일러
+ *
+ * Trial마다 빈 포트에 embedded Redis를 띄우고 웹 서버 없이 애플리케이션 컨텍스트를 올림
+ * L1은 꺼서 모든 조회가 Redis까지 가게 함 (켜면 히트 경로가 전략과 무관하게 같아짐)
+ * 원천 지연은 2ms로 고정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(time = QuoteCacheStrategyBenchmark.WARMUP_SECONDS)
+@Measurement(time = QuoteCacheStrategyBenchmark.MEASUREMENT_SECONDS)
+@Fork(1)
+public class QuoteCacheStrategyBenchmark {
+
+    static final int WARMUP_SECONDS = 2;
+    static final int MEASUREMENT_SECONDS = 3;
+
+    private static final int ORIGIN_LATENCY_MS = 2;
+    private static final int MAX_THREADS = 64;
+    private static final int HIT_KEYS = 10_000;
+    private static final int MISS_KEYS = 2 * MAX_THREADS
+            * Math.max(WARMUP_SECONDS, MEASUREMENT_SECONDS) * 1_000 / ORIGIN_LATENCY_MS;
+    private static final int STORM_KEYS = 16;
+
+    public enum Workload {
+        HIT_ONLY,
+        MISS_HEAVY,
+        EXPIRY_STORM
+    }
+
+    @Param({"LOCK", "SINGLE_FLIGHT", "LOGICAL_EXPIRE"})
+    private ReadStrategy strategy;
+
+    @Param({"HIT_ONLY", "MISS_HEAVY", "EXPIRY_STORM"})
+    private Workload workload;
+
+    private RedisServer redisServer;
+    private ConfigurableApplicationContext context;
+    private QuoteCacheService quoteCacheService;
+    private RedisTemplate<String, Object> redisTemplate;
+    private String[] symbols;
+    private final AtomicInteger missCursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() throws IOException {
+        int port = freePort();
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        boolean storm = workload == Workload.EXPIRY_STORM;
+        int ttlSeconds = storm ? 1 : 3600;
+        context = new SpringApplicationBuilder(CoinCacheApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.main.banner-mode=off",
+                        "--spring.data.redis.port=" + port,
+                        "--logging.level.com.example.coincache=WARN",
+                        "--repository.latency-ms=" + ORIGIN_LATENCY_MS,
+                        "--cache.quotes.near-cache.enabled=false",
+                        "--cache.quotes.near-cache.tracking=false",
+                        "--cache.quotes.base-ttl-seconds=" + ttlSeconds,
+                        "--cache.quotes.ttl-jitter-seconds=0",
+                        "--cache.quotes.logical-expire-seconds=" + ttlSeconds,
+                        "--cache.quotes.stale-ttl-buffer-seconds=5",
+                        "--cache.quotes.latency.snapshot-interval-seconds=0");
+        quoteCacheService = context.getBean(QuoteCacheService.class);
+        redisTemplate = context.getBean("redisTemplate", RedisTemplate.class);
+
+        InMemoryCoinQuoteRepository repository = context.getBean(InMemoryCoinQuoteRepository.class);
+        List<String> seeded = switch (workload) {
+            case HIT_ONLY -> repository.seedQuotes(HIT_KEYS, "HIT_");
+            case MISS_HEAVY -> repository.seedQuotes(MISS_KEYS, "MISS_");
+            case EXPIRY_STORM -> repository.seedQuotes(STORM_KEYS, "STORM_");
+        };
+        symbols = seeded.toArray(String[]::new);
+        if (workload != Workload.MISS_HEAVY) {
+            for (String symbol : symbols) {
+                read(symbol);
+            }
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void resetMisses() {
+        if (workload == Workload.MISS_HEAVY) {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.serverCommands().flushAll();
+                return null;
+            });
+            missCursor.set(0);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        if (context != null) {
+            context.close();
+        }
+        if (redisServer != null && redisServer.isActive()) {
+            redisServer.stop();
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Optional<CoinQuote> threads1() {
+        return read(nextSymbol());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Optional<CoinQuote> threads8() {
+        return read(nextSymbol());
+    }
+
+    @Benchmark
+    @Threads(MAX_THREADS)
+    public Optional<CoinQuote> threads64() {
+        return read(nextSymbol());
+    }
+
+    @Benchmark
+    @Threads(1)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Optional<CoinQuote> sampled1() {
+        return read(nextSymbol());
+    }
+
+    @Benchmark
+    @Threads(8)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Optional<CoinQuote> sampled8() {
+        return read(nextSymbol());
+    }
+
+    @Benchmark
+    @Threads(MAX_THREADS)
+    @BenchmarkMode(Mode.SampleTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Optional<CoinQuote> sampled64() {
+        return read(nextSymbol());
+    }
+
+    private String nextSymbol() {
+        if (workload == Workload.MISS_HEAVY) {
+            int cursor = missCursor.getAndIncrement();
+            if (cursor >= symbols.length) {
+                throw new IllegalStateException("MISS_HEAVY key space exhausted (" + symbols.length
+                        + " keys) - raise MISS_KEYS for longer iterations");
+            }
+            return symbols[cursor];
+        }
+        return symbols[ThreadLocalRandom.current().nextInt(symbols.length)];
+    }
+
+    private Optional<CoinQuote> read(String symbol) {
+        return switch (strategy) {
+            case LOCK -> quoteCacheService.getQuoteWithDistributedLock(symbol);
+            case SINGLE_FLIGHT -> quoteCacheService.getQuoteWithSingleFlight(symbol);
+            case LOGICAL_EXPIRE -> quoteCacheService.getQuoteWithLogicalExpire(symbol);
+        };
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
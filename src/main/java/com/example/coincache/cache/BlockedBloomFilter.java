@@ -0,0 +1,87 @@
+package com.example.coincache.cache;
+
+import java.io.Serializable;
+import java.util.Collection;
+
+/**
+ * 캐시 라인 단위로 블록화한 Bloom Filter (읽기 다중 스레드 용도)
+ *
+ * - 키 하나의 k개 비트를 모두 64바이트(512비트, long 8개) 블록 하나 안에 둠
+ *   BloomFilter는 k개 비트가 서로 다른 캐시 라인에 흩어져, 필터가 캐시보다 크면 부정 조회마다 캐시 미스가 여러 번 남
+ * - h1 상위 32비트로 블록을 고르고(곱셈-시프트, 나눗셈 없음), h2와 h1 하위 32비트로 블록 안 비트 위치 k개를 만듦
+ * - 크기/해시 수 계산은 BloomFilter와 같고 비트 수만 512 배수로 올림
+ *   같은 비트 수에서 블록 안 쏠림 때문에 FPP가 BloomFilter보다 조금 높음 (BloomFilterBlockedBenchmark로 실측)
+ */
+public class BlockedBloomFilter implements Serializable {
+
+    private static final int BLOCK_BITS = 512;
+    private static final int WORDS_PER_BLOCK = BLOCK_BITS / Long.SIZE;
+
+    private final long[] words;
+    private final int numBlocks;
+    private final int numHashFunctions;
+
+    public BlockedBloomFilter(int expectedInsertions, double fpp) {
+        int bitSize = BloomFilter.optimalBitSize(expectedInsertions, fpp);
+        // 512 배수로 올려도 int 범위를 넘지 않게 블록 수 상한
+        this.numBlocks = (int) Math.min(Math.max(1L, ((long) bitSize + BLOCK_BITS - 1) / BLOCK_BITS),
+                Integer.MAX_VALUE / BLOCK_BITS);
+        this.numHashFunctions = BloomFilter.optimalNumHashFunctions(expectedInsertions, bitSize);
+        this.words = new long[numBlocks * WORDS_PER_BLOCK];
+    }
+
+    public static BlockedBloomFilter from(Collection<String> values, double fpp) {
+        BlockedBloomFilter filter = new BlockedBloomFilter(values.size(), fpp);
+        for (String value : values) {
+            filter.put(value);
+        }
+        return filter;
+    }
+
+    public void put(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long hash1 = hashes[0];
+        long hash2 = hashes[1];
+        int base = blockOffset(hash1);
+        for (int i = 0; i < numHashFunctions; i++) {
+            int bit = bitInBlock(hash1, hash2, i);
+            words[base + (bit >>> 6)] |= 1L << bit;
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long hash1 = hashes[0];
+        long hash2 = hashes[1];
+        int base = blockOffset(hash1);
+        for (int i = 0; i < numHashFunctions; i++) {
+            int bit = bitInBlock(hash1, hash2, i);
+            if ((words[base + (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int bitSize() {
+        return numBlocks * BLOCK_BITS;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    private int blockOffset(long hash1) {
+        int block = (int) (((hash1 >>> 32) * numBlocks) >>> 32);
+        return block * WORDS_PER_BLOCK;
+    }
+
+    /**
+     * 상위 9비트를 블록 안 위치(0~511)로 사용
+     * 스텝은 블록 선택에 안 쓴 h1 하위 32비트 (상위를 쓰면 같은 블록 키끼리 비트 패턴이 겹쳐 FPP가 10배 이상 뜀)
+     */
+    private static int bitInBlock(long hash1, long hash2, int i) {
+        long combined = hash2 + (long) i * ((hash1 << 32) | 1);
+        return (int) (combined >>> 55);
+    }
+}
@@ -1,37 +1,37 @@
 package com.example.coincache.cache;
 
 import java.io.Serializable;
-import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.util.BitSet;
 import java.util.Collection;
 
 /**
  * 간단한 Bloom Filter 구현 (읽기 다중 스레드 용도)
+ *
+ * 트래픽 중에 심볼을 추가해야 하면 ConcurrentBloomFilter, 인스턴스 간에 공유하려면 RedisBloomFilter 사용
+ * 재시작 때 원천 조회 없이 쓰려면 BloomFilterFile로 저장 후 매핑
+ * 해시는 Murmur3 128비트를 char 단위로 바로 계산하고 결과를 스레드별 버퍼에 받아 조회당 할당이 없음
  */
 public class BloomFilter implements Serializable {
 
-    private static final ThreadLocal<MessageDigest> MD5 = ThreadLocal.withInitial(() -> {
-        try {
-            return MessageDigest.getInstance("MD5");
-        } catch (NoSuchAlgorithmException e) {
-            throw new IllegalStateException("MD5 not available", e);
-        }
-    });
-
     private final BitSet bits;
     private final int bitSize;
     private final int numHashFunctions;
 
     public BloomFilter(int expectedInsertions, double fpp) {
+        this.bitSize = optimalBitSize(expectedInsertions, fpp);
+        this.numHashFunctions = optimalNumHashFunctions(expectedInsertions, bitSize);
+        this.bits = new BitSet(bitSize);
+    }
+
+    static int optimalBitSize(int expectedInsertions, double fpp) {
         int safeExpected = Math.max(1, expectedInsertions);
         double safeFpp = Math.min(0.5d, Math.max(0.0001d, fpp));
-        this.bitSize = (int) Math.ceil(-safeExpected * Math.log(safeFpp) / (Math.log(2) * Math.log(2)));
-        this.numHashFunctions = Math.max(1,
-                (int) Math.round((double) bitSize / safeExpected * Math.log(2)));
-        this.bits = new BitSet(bitSize);
+        return (int) Math.ceil(-safeExpected * Math.log(safeFpp) / (Math.log(2) * Math.log(2)));
+    }
+
+    static int optimalNumHashFunctions(int expectedInsertions, int bitSize) {
+        int safeExpected = Math.max(1, expectedInsertions);
+        return Math.max(1, (int) Math.round((double) bitSize / safeExpected * Math.log(2)));
     }
 
     public static BloomFilter from(Collection<String> values, double fpp) {
@@ -43,35 +43,61 @@ public class BloomFilter implements Serializable {
     }
 
     public void put(String value) {
-        long[] hashes = hash128(value);
+        long[] hashes = Murmur3.hash128(value);
         long hash1 = hashes[0];
         long hash2 = hashes[1];
         for (int i = 0; i < numHashFunctions; i++) {
-            long combined = hash1 + (long) i * hash2;
-            int index = (int) ((combined & Long.MAX_VALUE) % bitSize);
-            bits.set(index);
+            bits.set(bitIndex(hash1, hash2, i, bitSize));
         }
     }
 
     public boolean mightContain(String value) {
-        long[] hashes = hash128(value);
+        long[] hashes = Murmur3.hash128(value);
         long hash1 = hashes[0];
         long hash2 = hashes[1];
         for (int i = 0; i < numHashFunctions; i++) {
-            long combined = hash1 + (long) i * hash2;
-            int index = (int) ((combined & Long.MAX_VALUE) % bitSize);
-            if (!bits.get(index)) {
+            if (!bits.get(bitIndex(hash1, hash2, i, bitSize))) {
                 return false;
             }
         }
         return true;
     }
 
-    private long[] hash128(String value) {
-        MessageDigest md = MD5.get();
-        md.reset();
-        byte[] digest = md.digest(value.getBytes(StandardCharsets.UTF_8));
-        ByteBuffer buffer = ByteBuffer.wrap(digest);
-        return new long[]{buffer.getLong(), buffer.getLong()};
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /**
+     * Redis 비트맵(SETBIT/GETBIT) 순서의 바이트 배열 - 비트 n은 바이트 n/8의 상위 비트부터
+     * (BitSet.toByteArray는 하위 비트부터라 그대로 SET 하면 안 됨)
+     */
+    public byte[] toRedisBitmap() {
+        byte[] bitmap = new byte[(bitSize + 7) >>> 3];
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1)) {
+            bitmap[i >>> 3] |= (byte) (0x80 >>> (i & 7));
+        }
+        return bitmap;
+    }
+
+    /**
+     * 64비트 워드 배열 (워드 w의 비트 b = 비트 w*64+b, 뒤쪽 빈 워드도 포함)
+     */
+    long[] toWords() {
+        long[] words = new long[(bitSize + 63) >>> 6];
+        long[] used = bits.toLongArray();
+        System.arraycopy(used, 0, words, 0, used.length);
+        return words;
+    }
+
+    /**
+     * i번째 해시 함수의 비트 위치 (RedisBloomFilter, ConcurrentBloomFilter도 같은 위치를 씀)
+     */
+    static int bitIndex(long hash1, long hash2, int i, int bitSize) {
+        long combined = hash1 + (long) i * hash2;
+        return (int) ((combined & Long.MAX_VALUE) % bitSize);
     }
 }
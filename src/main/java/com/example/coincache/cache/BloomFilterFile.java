@@ -0,0 +1,144 @@
+package com.example.coincache.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Bloom Filter 스냅샷 파일 (재시작 시 원천 조회 없이 바로 매핑해서 사용)
+ *
+ * 포맷 (빅엔디언)
+ * - 헤더 24바이트: MAGIC(4) | VERSION(4) | HASH_VERSION(4) | bitSize(4) | numHashFunctions(4) | wordCount(4)
+ * - 본문: long[wordCount] (워드 w의 비트 b = 비트 w*64+b, BitSet.toLongArray와 같은 배치)
+ *
+ * - HASH_VERSION은 해시 함수 + 비트 위치 계산 방식 (Murmur3 x64 128, seed 0, h1 + i*h2)
+ *   바뀌면 파일 비트가 의미 없으므로 읽기에서 거절하고 다시 만들어야 함
+ * - 쓰기는 같은 디렉터리 임시 파일에 쓰고 fsync 후 rename으로 교체 (읽는 쪽은 옛 파일 또는 새 파일만 봄)
+ *   rename 뒤 디렉터리도 fsync 해야 장애 때 rename 자체가 사라지지 않음
+ * - BloomFilter(오프라인 빌드)와 ConcurrentBloomFilter(운영 필터) 모두 같은 포맷으로 저장
+ */
+public final class BloomFilterFile {
+
+    public static final int MAGIC = 0x424C4F4D;
+    public static final int VERSION = 1;
+    public static final int HASH_VERSION = 1;
+    static final int HEADER_BYTES = 24;
+
+    private BloomFilterFile() {
+    }
+
+    public static void write(BloomFilter filter, Path path) throws IOException {
+        write(filter.bitSize(), filter.numHashFunctions(), filter.toWords(), path);
+    }
+
+    public static void write(ConcurrentBloomFilter filter, Path path) throws IOException {
+        write(filter.bitSize(), filter.numHashFunctions(), filter.toWords(), path);
+    }
+
+    private static void write(int bitSize, int numHashFunctions, long[] words, Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + words.length * Long.BYTES);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(HASH_VERSION)
+                .putInt(bitSize)
+                .putInt(numHashFunctions)
+                .putInt(words.length);
+        buffer.asLongBuffer().put(words);
+        buffer.rewind();
+
+        Path target = path.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory(target.getParent());
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * 스냅샷을 매핑해서 검증한 뒤 put 가능한 운영 필터로 복원 (워드 배열 복사 1회, 원천 조회 없음)
+     *
+     * @throws IOException map과 같음
+     */
+    public static ConcurrentBloomFilter load(Path path) throws IOException {
+        MappedBloomFilter mapped = map(path);
+        return new ConcurrentBloomFilter(mapped.bitSize(), mapped.numHashFunctions(), mapped.toWords());
+    }
+
+    /**
+     * 파일을 매핑해서 필터로 사용 (본문을 힙으로 복사하지 않음)
+     *
+     * @throws IOException 파일이 없거나 헤더/길이가 맞지 않을 때 - 호출자는 원천에서 다시 만들면 됨
+     */
+    public static MappedBloomFilter map(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw invalid(path, "too short (" + size + " bytes)");
+            }
+            // 채널을 닫아도 매핑은 유지되고, 파일이 rename으로 교체돼도 옛 내용을 계속 봄
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            int magic = buffer.getInt(0);
+            int version = buffer.getInt(4);
+            int hashVersion = buffer.getInt(8);
+            int bitSize = buffer.getInt(12);
+            int numHashFunctions = buffer.getInt(16);
+            int wordCount = buffer.getInt(20);
+
+            if (magic != MAGIC) {
+                throw invalid(path, "bad magic 0x" + Integer.toHexString(magic));
+            }
+            if (version != VERSION) {
+                throw invalid(path, "unsupported version " + version);
+            }
+            if (hashVersion != HASH_VERSION) {
+                throw invalid(path, "hash version " + hashVersion + " (expected " + HASH_VERSION + ")");
+            }
+            if (bitSize <= 0 || numHashFunctions <= 0 || wordCount != (bitSize + 63) >>> 6) {
+                throw invalid(path, "bad shape bitSize=" + bitSize + ", numHashFunctions=" + numHashFunctions
+                        + ", wordCount=" + wordCount);
+            }
+            if (size != HEADER_BYTES + (long) wordCount * Long.BYTES) {
+                throw invalid(path, "size " + size + " does not match wordCount " + wordCount);
+            }
+            return new MappedBloomFilter(buffer, bitSize, numHashFunctions);
+        }
+    }
+
+    /**
+     * 디렉터리 엔트리(rename)를 디스크에 반영 - 디렉터리를 열 수 없는 플랫폼(Windows)은 건너뜀
+     */
+    private static void forceDirectory(Path directory) throws IOException {
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException | UnsupportedOperationException e) {
+            return;
+        }
+        try (channel) {
+            channel.force(true);
+        }
+    }
+
+    private static IOException invalid(Path path, String reason) {
+        return new IOException("Invalid bloom filter file " + path + ": " + reason);
+    }
+}
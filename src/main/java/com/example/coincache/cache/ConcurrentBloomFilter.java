@@ -0,0 +1,123 @@
+package com.example.coincache.cache;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 락 없이 동시 put/mightContain이 가능한 Bloom Filter
+ *
+ * - 비트를 AtomicLongArray의 64비트 워드에 담고, put은 워드 단위 CAS로 OR
+ *   (이미 켜진 비트면 쓰기 없이 넘어감)
+ * - 트래픽 중에 신규 심볼을 바로 추가할 수 있어 전체 리빌드/교체가 필요 없음
+ * - 크기 계산/해시/인덱스 계산은 BloomFilter와 같음
+ * - put 도중인 값은 다른 스레드에서 잠깐 없는 것으로 보일 수 있지만, put이 끝난 값은 항상 통과 (False Negative 없음)
+ */
+public class ConcurrentBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int bitSize;
+    private final int numHashFunctions;
+
+    public ConcurrentBloomFilter(int expectedInsertions, double fpp) {
+        this.bitSize = BloomFilter.optimalBitSize(expectedInsertions, fpp);
+        this.numHashFunctions = BloomFilter.optimalNumHashFunctions(expectedInsertions, bitSize);
+        this.words = new AtomicLongArray((bitSize + 63) >>> 6);
+    }
+
+    /**
+     * 스냅샷 워드 배열로 복원 (BloomFilterFile.load)
+     */
+    ConcurrentBloomFilter(int bitSize, int numHashFunctions, long[] words) {
+        this.bitSize = bitSize;
+        this.numHashFunctions = numHashFunctions;
+        this.words = new AtomicLongArray(words);
+    }
+
+    public static ConcurrentBloomFilter from(Collection<String> values, double fpp) {
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(values.size(), fpp);
+        for (String value : values) {
+            filter.put(value);
+        }
+        return filter;
+    }
+
+    /**
+     * @return 새로 켜진 비트가 있으면 true (처음 보는 값일 가능성이 높음)
+     */
+    public boolean put(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long hash1 = hashes[0];
+        long hash2 = hashes[1];
+        boolean changed = false;
+        for (int i = 0; i < numHashFunctions; i++) {
+            int index = BloomFilter.bitIndex(hash1, hash2, i, bitSize);
+            changed |= setBits(index >>> 6, 1L << index);
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long hash1 = hashes[0];
+        long hash2 = hashes[1];
+        for (int i = 0; i < numHashFunctions; i++) {
+            int index = BloomFilter.bitIndex(hash1, hash2, i, bitSize);
+            if ((words.get(index >>> 6) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 같은 크기/해시 수의 필터를 합침 (다른 노드나 리빌드 결과를 트래픽 중에 병합)
+     * 워드 단위로 원자적이며, 병합 도중에도 put/mightContain 가능
+     */
+    public void putAll(ConcurrentBloomFilter other) {
+        if (other.bitSize != bitSize || other.numHashFunctions != numHashFunctions) {
+            throw new IllegalArgumentException("Bloom filter shape mismatch: bitSize=" + other.bitSize
+                    + ", numHashFunctions=" + other.numHashFunctions
+                    + " (expected " + bitSize + ", " + numHashFunctions + ")");
+        }
+        for (int i = 0; i < words.length(); i++) {
+            long mask = other.words.get(i);
+            if (mask != 0) {
+                setBits(i, mask);
+            }
+        }
+    }
+
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    /**
+     * 워드 단위 스냅샷 (BloomFilter.toWords와 같은 배치, put과 겹치면 일부 비트만 반영될 수 있음)
+     */
+    long[] toWords() {
+        long[] snapshot = new long[words.length()];
+        for (int i = 0; i < snapshot.length; i++) {
+            snapshot[i] = words.get(i);
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return mask 중 새로 켜진 비트가 있으면 true
+     */
+    private boolean setBits(int wordIndex, long mask) {
+        long current = words.get(wordIndex);
+        while ((current & mask) != mask) {
+            long witness = words.compareAndExchange(wordIndex, current, current | mask);
+            if (witness == current) {
+                return true;
+            }
+            current = witness;
+        }
+        return false;
+    }
+}
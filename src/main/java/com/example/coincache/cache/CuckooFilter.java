@@ -0,0 +1,259 @@
+package com.example.coincache.cache;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 추가/삭제가 가능한 멤버십 필터 (Cuckoo Filter, 상장 폐지 심볼 제거용)
+ *
+ * - 키마다 f비트 지문 하나를 후보 버킷 2개(버킷당 4칸) 중 한 곳에 저장
+ *   두 번째 버킷은 (지문 해시 - 첫 버킷) mod 버킷 수라서 지문만으로 서로 오갈 수 있음 (버킷 수가 2의 거듭제곱일 필요 없음)
+ * - 지문 비트 수 f = ceil(log2(8 / fpp)), 적재율 95% 기준 버킷 수를 잡아 키당 약 f / 0.95 비트
+ *   (fpp 0.01이면 약 10.5비트로 BloomFilter 9.6비트와 비슷)
+ * - 같은 키를 여러 번 add 하면 지문도 여러 개 (delete도 그만큼 해야 사라짐)
+ * - 추가한 적 없는 키를 delete 하면 같은 지문을 가진 다른 키가 지워질 수 있음 - 추가한 심볼만 삭제할 것
+ *
+ * 쓰기(add/delete)는 락으로 직렬화하고, 조회는 낙관적 읽기라 평소에는 락 없이 동작
+ * (쓰기 중 지문 이동과 겹치면 읽기 락으로 다시 확인해 잠깐 없는 것으로 보이는 일이 없음)
+ */
+public class CuckooFilter {
+
+    private static final int SLOTS_PER_BUCKET = 4;
+    private static final double LOAD_FACTOR = 0.95d;
+    private static final int MAX_KICKS = 500;
+
+    private final long[] slots;
+    private final int numBuckets;
+    private final int fingerprintBits;
+    private final long fingerprintMask;
+    private final StampedLock lock = new StampedLock();
+
+    private int size;
+    /**
+     * 밀어내기가 MAX_KICKS를 넘어 자리를 못 찾은 지문 하나 (버리면 False Negative가 되므로 보관)
+     */
+    private long victimFingerprint;
+    private int victimBucket;
+
+    public CuckooFilter(int expectedInsertions, double fpp) {
+        int safeExpected = Math.max(1, expectedInsertions);
+        double safeFpp = Math.min(0.5d, Math.max(0.0001d, fpp));
+        this.fingerprintBits = Math.min(32,
+                Math.max(4, (int) Math.ceil(Math.log(2.0d * SLOTS_PER_BUCKET / safeFpp) / Math.log(2))));
+        this.fingerprintMask = (1L << fingerprintBits) - 1;
+        this.numBuckets = Math.max(1, (int) Math.ceil(safeExpected / (SLOTS_PER_BUCKET * LOAD_FACTOR)));
+        long totalBits = (long) numBuckets * SLOTS_PER_BUCKET * fingerprintBits;
+        // 마지막 칸이 워드 경계를 넘어도 읽을 수 있게 1워드 여유
+        this.slots = new long[(int) ((totalBits + 63) >>> 6) + 1];
+    }
+
+    public static CuckooFilter from(Collection<String> values, double fpp) {
+        CuckooFilter filter = new CuckooFilter(values.size(), fpp);
+        for (String value : values) {
+            filter.add(value);
+        }
+        return filter;
+    }
+
+    /**
+     * @return 가득 차서 넣지 못했으면 false (더 큰 필터로 다시 만들어야 함)
+     */
+    public boolean add(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long fingerprint = fingerprint(hashes[1]);
+        int bucket = index(hashes[0]);
+
+        long stamp = lock.writeLock();
+        try {
+            if (victimFingerprint != 0) {
+                return false;
+            }
+            if (insertIntoBucket(bucket, fingerprint) || insertIntoBucket(altIndex(bucket, fingerprint), fingerprint)) {
+                size++;
+                return true;
+            }
+
+            // 두 후보가 모두 차 있으면 임의 칸의 지문을 그 지문의 다른 버킷으로 밀어냄
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int current = random.nextBoolean() ? bucket : altIndex(bucket, fingerprint);
+            long carried = fingerprint;
+            for (int kick = 0; kick < MAX_KICKS; kick++) {
+                int slot = current * SLOTS_PER_BUCKET + random.nextInt(SLOTS_PER_BUCKET);
+                long evicted = readSlot(slot);
+                writeSlot(slot, carried);
+                carried = evicted;
+                current = altIndex(current, carried);
+                if (insertIntoBucket(current, carried)) {
+                    size++;
+                    return true;
+                }
+            }
+            victimFingerprint = carried;
+            victimBucket = current;
+            size++;
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 지문 하나를 제거
+     *
+     * @return 지문을 찾아 지웠으면 true
+     */
+    public boolean delete(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long fingerprint = fingerprint(hashes[1]);
+        int bucket = index(hashes[0]);
+        int alt = altIndex(bucket, fingerprint);
+
+        long stamp = lock.writeLock();
+        try {
+            if (deleteFromBucket(bucket, fingerprint) || deleteFromBucket(alt, fingerprint)) {
+                size--;
+                reinsertVictim();
+                return true;
+            }
+            if (victimFingerprint == fingerprint && (victimBucket == bucket || victimBucket == alt)) {
+                victimFingerprint = 0;
+                size--;
+                return true;
+            }
+            return false;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        long fingerprint = fingerprint(hashes[1]);
+        int bucket = index(hashes[0]);
+        int alt = altIndex(bucket, fingerprint);
+
+        long stamp = lock.tryOptimisticRead();
+        boolean found = contains(bucket, alt, fingerprint);
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return contains(bucket, alt, fingerprint);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public int fingerprintBits() {
+        return fingerprintBits;
+    }
+
+    /**
+     * 지문 저장 공간 (비트)
+     */
+    public long bitSize() {
+        return (long) numBuckets * SLOTS_PER_BUCKET * fingerprintBits;
+    }
+
+    private boolean contains(int bucket, int alt, long fingerprint) {
+        return bucketContains(bucket, fingerprint)
+                || bucketContains(alt, fingerprint)
+                || (victimFingerprint == fingerprint && (victimBucket == bucket || victimBucket == alt));
+    }
+
+    private boolean bucketContains(int bucket, long fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (readSlot(base + i) == fingerprint) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean insertIntoBucket(int bucket, long fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (readSlot(base + i) == 0) {
+                writeSlot(base + i, fingerprint);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean deleteFromBucket(int bucket, long fingerprint) {
+        int base = bucket * SLOTS_PER_BUCKET;
+        for (int i = 0; i < SLOTS_PER_BUCKET; i++) {
+            if (readSlot(base + i) == fingerprint) {
+                writeSlot(base + i, 0);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void reinsertVictim() {
+        if (victimFingerprint == 0) {
+            return;
+        }
+        long fingerprint = victimFingerprint;
+        int bucket = victimBucket;
+        if (insertIntoBucket(bucket, fingerprint) || insertIntoBucket(altIndex(bucket, fingerprint), fingerprint)) {
+            victimFingerprint = 0;
+        }
+    }
+
+    private long readSlot(int slot) {
+        long bit = (long) slot * fingerprintBits;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        long value = slots[word] >>> offset;
+        if (offset + fingerprintBits > 64) {
+            value |= slots[word + 1] << (64 - offset);
+        }
+        return value & fingerprintMask;
+    }
+
+    private void writeSlot(int slot, long fingerprint) {
+        long bit = (long) slot * fingerprintBits;
+        int word = (int) (bit >>> 6);
+        int offset = (int) (bit & 63);
+        slots[word] = (slots[word] & ~(fingerprintMask << offset)) | (fingerprint << offset);
+        if (offset + fingerprintBits > 64) {
+            int spill = 64 - offset;
+            slots[word + 1] = (slots[word + 1] & ~(fingerprintMask >>> spill)) | (fingerprint >>> spill);
+        }
+    }
+
+    /**
+     * 0은 빈 칸 표시라 지문으로 쓰지 않음
+     */
+    private long fingerprint(long hash2) {
+        long fingerprint = (hash2 >>> (64 - fingerprintBits)) & fingerprintMask;
+        return fingerprint == 0 ? 1 : fingerprint;
+    }
+
+    private int index(long hash1) {
+        return (int) ((hash1 & Long.MAX_VALUE) % numBuckets);
+    }
+
+    /**
+     * (지문 해시 - 버킷) mod n - 두 번 적용하면 원래 버킷으로 돌아옴
+     */
+    private int altIndex(int bucket, long fingerprint) {
+        int fingerprintHash = (int) (((fingerprint * 0xc6a4a7935bd1e995L) >>> 1) % numBuckets);
+        return Math.floorMod(fingerprintHash - bucket, numBuckets);
+    }
+}
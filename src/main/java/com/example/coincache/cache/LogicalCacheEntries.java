@@ -0,0 +1,88 @@
+package com.example.coincache.cache;
+
+import com.example.coincache.domain.CoinQuote;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.example.coincache.cache.QuoteCacheKeys.NULL_MARKER;
+
+/**
+ * 논리 만료 엔트리의 Redis 표현 (동기/리액티브 경로 공통)
+ *
+ * 해시 {v: 직렬화된 값, e: 논리 만료 시각(ms)}로 저장
+ * - 만료 시각을 별도 필드로 두어 Lua 스크립트가 값을 디코딩하지 않고 비교함
+ * - 값이 없는 심볼은 v에 Null 마커를 저장하고, 읽을 때 null 값으로 복원
+ */
+public final class LogicalCacheEntries {
+
+    private LogicalCacheEntries() {
+    }
+
+    /**
+     * {@link QuoteCacheScripts#WRITE_LOGICAL} 인자
+     */
+    public static byte[][] writeArgs(CacheValue<CoinQuote> cacheValue, long ttlMs,
+                                     RedisSerializer<Object> valueSerializer) {
+        Object payload = cacheValue.getValue() != null ? cacheValue.getValue() : NULL_MARKER;
+        return new byte[][]{
+                valueSerializer.serialize(payload),
+                ascii(cacheValue.getLogicalExpireAtMs()),
+                ascii(ttlMs)
+        };
+    }
+
+    /**
+     * {@link QuoteCacheScripts#READ_LOGICAL} 인자
+     */
+    public static byte[][] readArgs(long nowMs, String lockToken, long lockTtlMs) {
+        return new byte[][]{
+                ascii(nowMs),
+                lockToken.getBytes(StandardCharsets.UTF_8),
+                ascii(lockTtlMs)
+        };
+    }
+
+    /**
+     * 스크립트 결과 해석 (미스면 null)
+     * 값 요소는 동기 경로에선 byte[], 리액티브 경로에선 ByteBuffer로 들어옴
+     */
+    public static Read parse(List<?> result, RedisSerializer<Object> valueSerializer) {
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+        Object payload = valueSerializer.deserialize(bytes(result.get(0)));
+        long logicalExpireAtMs = ((Number) result.get(1)).longValue();
+        CoinQuote quote = NULL_MARKER.equals(payload) ? null : (CoinQuote) payload;
+        return new Read(
+                new CacheValue<>(quote, logicalExpireAtMs),
+                ((Number) result.get(2)).longValue() == 1,
+                ((Number) result.get(3)).longValue() == 1,
+                ((Number) result.get(4)).longValue()
+        );
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private static byte[] bytes(Object element) {
+        if (element instanceof ByteBuffer buffer) {
+            byte[] bytes = new byte[buffer.remaining()];
+            buffer.duplicate().get(bytes);
+            return bytes;
+        }
+        return (byte[]) element;
+    }
+
+    /**
+     * @param stale               논리 만료가 지났는지
+     * @param refreshLockAcquired 이 호출이 갱신 락을 잡았는지 (잡았으면 갱신 후 락 해제 책임)
+     * @param redisTtlMs          물리 키의 남은 TTL (L1 TTL 상한)
+     */
+    public record Read(CacheValue<CoinQuote> cacheValue, boolean stale, boolean refreshLockAcquired,
+                       long redisTtlMs) {
+    }
+}
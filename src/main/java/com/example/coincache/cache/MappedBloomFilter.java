@@ -0,0 +1,54 @@
+package com.example.coincache.cache;
+
+import java.nio.MappedByteBuffer;
+
+/**
+ * BloomFilterFile 스냅샷을 매핑한 Bloom Filter (읽기 다중 스레드 용도)
+ *
+ * - 비트는 매핑 버퍼에서 바로 읽어 힙 복사 없음 (페이지는 처음 닿을 때 로드)
+ * - 비트 위치는 BloomFilter와 같아 같은 심볼이면 같은 판정
+ * - 읽기 전용 매핑이라 put 없음 - 심볼 추가는 새 스냅샷을 BloomFilterFile.write로 교체한 뒤 다시 map
+ */
+public class MappedBloomFilter {
+
+    private final MappedByteBuffer buffer;
+    private final int bitSize;
+    private final int numHashFunctions;
+
+    MappedBloomFilter(MappedByteBuffer buffer, int bitSize, int numHashFunctions) {
+        this.buffer = buffer;
+        this.bitSize = bitSize;
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    public boolean mightContain(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        for (int i = 0; i < numHashFunctions; i++) {
+            int index = BloomFilter.bitIndex(hashes[0], hashes[1], i, bitSize);
+            if ((buffer.getLong(wordOffset(index)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    long[] toWords() {
+        long[] words = new long[(bitSize + 63) >>> 6];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = buffer.getLong(BloomFilterFile.HEADER_BYTES + i * Long.BYTES);
+        }
+        return words;
+    }
+
+    private static int wordOffset(int index) {
+        return BloomFilterFile.HEADER_BYTES + (index >>> 6) * Long.BYTES;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.coincache.cache;
+
+/**
+ * MurmurHash3 x64 128비트 (비암호화 해시, Bloom Filter 인덱스용)
+ *
+ * - 문자열을 UTF-8로 인코딩하지 않고 char(UTF-16 코드 유닛)를 리틀엔디언 2바이트로 보고 바로 해시
+ *   (Guava Hashing.murmur3_128().hashUnencodedChars와 같은 값)
+ * - 결과는 호출자가 넘긴 long[2](또는 스레드별 버퍼)에 기록해 호출당 할당이 없음
+ */
+public final class Murmur3 {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    private static final ThreadLocal<long[]> HASHES = ThreadLocal.withInitial(() -> new long[2]);
+
+    private Murmur3() {
+    }
+
+    /**
+     * seed 0 해시를 스레드별 버퍼에 기록해 반환 (필터 조회/추가용)
+     * 같은 스레드의 다음 호출이 덮어쓰므로 바로 읽고 보관하지 말 것
+     */
+    public static long[] hash128(String value) {
+        long[] hashes = HASHES.get();
+        hash128(value, 0, hashes);
+        return hashes;
+    }
+
+    /**
+     * @param out 길이 2 이상, out[0]=h1, out[1]=h2
+     */
+    public static void hash128(String value, long seed, long[] out) {
+        long h1 = seed;
+        long h2 = seed;
+        int length = value.length();
+        int blockEnd = length & ~7;
+
+        // 16바이트(= char 8개) 블록
+        for (int i = 0; i < blockEnd; i += 8) {
+            long k1 = chars(value, i, 4);
+            long k2 = chars(value, i + 4, 4);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        // 남은 char 0~7개
+        int remaining = length - blockEnd;
+        if (remaining > 4) {
+            h2 ^= mixK2(chars(value, blockEnd + 4, remaining - 4));
+        }
+        if (remaining > 0) {
+            h1 ^= mixK1(chars(value, blockEnd, Math.min(4, remaining)));
+        }
+
+        long byteLength = 2L * length;
+        h1 ^= byteLength;
+        h2 ^= byteLength;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+
+        out[0] = h1;
+        out[1] = h2;
+    }
+
+    /**
+     * from부터 count개(최대 4) char를 리틀엔디언으로 이어 붙인 64비트 값
+     */
+    private static long chars(String value, int from, int count) {
+        long packed = 0;
+        for (int i = count - 1; i >= 0; i--) {
+            packed = (packed << 16) | value.charAt(from + i);
+        }
+        return packed;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        k1 *= C2;
+        return k1;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        k2 *= C1;
+        return k2;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
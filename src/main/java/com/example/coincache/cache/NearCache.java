@@ -0,0 +1,222 @@
+package com.example.coincache.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 앞단의 인프로세스 L1 캐시 (크기 + 시간 기반 축출)
+ *
+ * - 엔트리 TTL은 설정된 최대 TTL과 Redis 남은 TTL 중 작은 값
+ *   (논리 만료 값은 논리 만료 시점도 넘지 않음 - 만료 뒤에는 Redis에서 읽어야 갱신이 트리거됨)
+ * - 최대 크기를 넘으면 만료 엔트리부터 정리하고, 그래도 넘치면 임의 순서로 축출 (근사 축출)
+ * - 값은 복사하지 않고 그대로 공유하므로 호출자는 반환된 객체를 수정하면 안 됨
+ *
+ * 무효화 추적 모드 (Redis CLIENT TRACKING 연결이 살아 있을 때)
+ * - 설정 TTL 대신 Redis 남은 TTL까지 보관하고, 서버 무효화 알림으로 지움
+ * - 읽기 채움은 Redis 조회 전에 받은 스탬프가 그대로일 때만 반영
+ *   (조회 중에 도착한 무효화보다 늦게 옛 값을 올리는 경합 방지)
+ * - 쓰기 경로의 채움은 무효화 알림과 순서를 맞출 수 없으므로 채우지 않고 지움
+ */
+public class NearCache {
+
+    /**
+     * Redis 키에 만료가 없을 때(TTL -1) 사용하는 값
+     */
+    public static final long NO_EXPIRY = -1L;
+
+    /**
+     * 무효화 추적 모드의 최대 보관 시간 - 알림 유실에 대한 안전장치
+     */
+    private static final long TRACKED_MAX_TTL_NANOS = TimeUnit.HOURS.toNanos(1);
+
+    private static final int STAMP_STRIPES = 1024;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final int maxSize;
+    private final long maxTtlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final AtomicLongArray stamps = new AtomicLongArray(STAMP_STRIPES);
+    private final AtomicLong clearEpoch = new AtomicLong();
+    private volatile boolean invalidationTracked;
+
+    public NearCache(boolean enabled, int maxSize, long maxTtlMs) {
+        this.enabled = enabled && maxSize > 0 && maxTtlMs > 0;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxTtlNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1L, maxTtlMs));
+    }
+
+    public static NearCache disabled() {
+        return new NearCache(false, 0, 0);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 만료되지 않은 값을 반환 (없으면 null)
+     */
+    public Object get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expireAtNanos - System.nanoTime() <= 0) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    public boolean isInvalidationTracked() {
+        return invalidationTracked;
+    }
+
+    /**
+     * 추적 연결이 끊기면 그동안의 무효화를 놓쳤을 수 있으므로 비우고 TTL 기반으로 돌아감
+     */
+    public void setInvalidationTracked(boolean tracked) {
+        if (!tracked) {
+            clear();
+        }
+        this.invalidationTracked = tracked;
+    }
+
+    /**
+     * Redis 조회 직전에 받아 두는 스탬프 ({@link #put(String, Object, long, long)}에 전달)
+     */
+    public long readStamp(String key) {
+        return clearEpoch.get() + stamps.get(stripe(key));
+    }
+
+    /**
+     * 쓰기 경로 채움 - 추적 모드에서는 무효화 알림과 순서를 맞출 수 없어 지우기만 함
+     *
+     * @param redisTtlMs Redis에 남은 TTL (밀리초), 만료가 없으면 {@link #NO_EXPIRY}
+     */
+    public void put(String key, Object value, long redisTtlMs) {
+        if (invalidationTracked) {
+            invalidate(key);
+            return;
+        }
+        store(key, value, redisTtlMs);
+    }
+
+    /**
+     * 읽기 경로 채움 - 스탬프를 받은 뒤 이 키(또는 전체)가 무효화됐으면 버림
+     */
+    public void put(String key, Object value, long redisTtlMs, long stamp) {
+        if (invalidationTracked && readStamp(key) != stamp) {
+            return;
+        }
+        store(key, value, redisTtlMs);
+    }
+
+    private void store(String key, Object value, long redisTtlMs) {
+        if (!enabled || value == null) {
+            return;
+        }
+        long maxNanos = invalidationTracked ? TRACKED_MAX_TTL_NANOS : maxTtlNanos;
+        long ttlNanos;
+        if (redisTtlMs == NO_EXPIRY) {
+            ttlNanos = maxNanos;
+        } else if (redisTtlMs > 0) {
+            ttlNanos = Math.min(maxNanos, TimeUnit.MILLISECONDS.toNanos(redisTtlMs));
+        } else {
+            // 이미 만료되었거나 곧 사라질 키는 L1에 올리지 않음
+            entries.remove(key);
+            return;
+        }
+        if (value instanceof CacheValue<?> cacheValue) {
+            long untilLogicalExpireMs = cacheValue.getLogicalExpireAtMs() - System.currentTimeMillis();
+            if (untilLogicalExpireMs <= 0) {
+                entries.remove(key);
+                return;
+            }
+            ttlNanos = Math.min(ttlNanos, TimeUnit.MILLISECONDS.toNanos(untilLogicalExpireMs));
+        }
+        if (entries.put(key, new Entry(value, System.nanoTime() + ttlNanos)) == null
+                && entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(String key) {
+        stamps.incrementAndGet(stripe(key));
+        entries.remove(key);
+    }
+
+    public void clear() {
+        clearEpoch.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0d : (double) hitCount / total;
+    }
+
+    /**
+     * 최대 크기의 90%까지 줄여서 축출 비용을 여러 put에 나눠 냄
+     */
+    private void evict() {
+        int target = maxSize - Math.max(1, maxSize / 10);
+        long now = System.nanoTime();
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getValue().expireAtNanos - now <= 0) {
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+
+        iterator = entries.entrySet().iterator();
+        while (entries.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            evictions.increment();
+        }
+    }
+
+    private static int stripe(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (STAMP_STRIPES - 1);
+    }
+
+    private record Entry(Object value, long expireAtNanos) {
+    }
+}
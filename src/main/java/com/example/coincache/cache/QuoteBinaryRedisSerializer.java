@@ -0,0 +1,308 @@
+package com.example.coincache.cache;
+
+import com.example.coincache.domain.CoinQuote;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+import static com.example.coincache.cache.QuoteCacheKeys.NULL_MARKER;
+
+/**
+ * 시세 캐시 전용 바이너리 직렬화 (CoinQuote, CacheValue, Null 마커)
+ *
+ * 포맷: [MAGIC][VERSION][TYPE][본문]
+ * - CoinQuote: 필드 존재 비트마스크 + 심볼(UTF-8) + BigDecimal 3개(scale + unscaled varint) + 시각(epoch초 + 나노)
+ * - CacheValue: 논리 만료 시각(8바이트) + 내부 값 TYPE + 본문
+ * - Null 마커: TYPE만 기록
+ *
+ * 첫 바이트가 MAGIC이 아니면 기존 JSON 값으로 보고 fallback 직렬화로 읽음 (JSON 값은 '{' 또는 '"'로 시작)
+ * 그 밖의 타입도 fallback으로 기록하므로, 포맷을 바꿔도 기존 키를 지우거나 다시 채울 필요가 없음
+ */
+public class QuoteBinaryRedisSerializer implements RedisSerializer<Object> {
+
+    static final byte MAGIC = (byte) 0xC5;
+    static final byte VERSION = 1;
+
+    private static final byte TYPE_NULL = 0;
+    private static final byte TYPE_NULL_MARKER = 1;
+    private static final byte TYPE_COIN_QUOTE = 2;
+    private static final byte TYPE_CACHE_VALUE = 3;
+
+    private static final int HAS_SYMBOL = 1;
+    private static final int HAS_PRICE = 1 << 1;
+    private static final int HAS_CHANGE = 1 << 2;
+    private static final int HAS_VOLUME = 1 << 3;
+    private static final int HAS_UPDATED_AT = 1 << 4;
+
+    private final RedisSerializer<Object> fallback;
+
+    public QuoteBinaryRedisSerializer(RedisSerializer<Object> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+        if (!isSupported(value)) {
+            return fallback.serialize(value);
+        }
+        Writer out = new Writer();
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        writeValue(out, value);
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            // 바이너리 도입 이전에 저장된 JSON 값
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < 3 || bytes[1] != VERSION) {
+            throw new SerializationException("지원하지 않는 캐시 값 포맷 버전: "
+                    + (bytes.length < 2 ? "?" : bytes[1]));
+        }
+        try {
+            Reader in = new Reader(bytes, 2);
+            return readValue(in, in.readByte());
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("손상된 캐시 값 (길이 " + bytes.length + ")", e);
+        }
+    }
+
+    private boolean isSupported(Object value) {
+        if (value instanceof CoinQuote) {
+            return true;
+        }
+        if (value instanceof CacheValue<?> cacheValue) {
+            Object inner = cacheValue.getValue();
+            return inner == null || inner instanceof CoinQuote || NULL_MARKER.equals(inner);
+        }
+        return NULL_MARKER.equals(value);
+    }
+
+    private void writeValue(Writer out, Object value) {
+        if (value == null) {
+            out.writeByte(TYPE_NULL);
+        } else if (value instanceof CoinQuote quote) {
+            out.writeByte(TYPE_COIN_QUOTE);
+            writeQuote(out, quote);
+        } else if (value instanceof CacheValue<?> cacheValue) {
+            out.writeByte(TYPE_CACHE_VALUE);
+            out.writeFixedLong(cacheValue.getLogicalExpireAtMs());
+            writeValue(out, cacheValue.getValue());
+        } else {
+            out.writeByte(TYPE_NULL_MARKER);
+        }
+    }
+
+    private Object readValue(Reader in, byte type) {
+        return switch (type) {
+            case TYPE_NULL -> null;
+            case TYPE_NULL_MARKER -> NULL_MARKER;
+            case TYPE_COIN_QUOTE -> readQuote(in);
+            case TYPE_CACHE_VALUE -> {
+                long logicalExpireAtMs = in.readFixedLong();
+                yield new CacheValue<>(readValue(in, in.readByte()), logicalExpireAtMs);
+            }
+            default -> throw new SerializationException("알 수 없는 캐시 값 타입: " + type);
+        };
+    }
+
+    private void writeQuote(Writer out, CoinQuote quote) {
+        int mask = (quote.getSymbol() != null ? HAS_SYMBOL : 0)
+                | (quote.getPrice() != null ? HAS_PRICE : 0)
+                | (quote.getChange24h() != null ? HAS_CHANGE : 0)
+                | (quote.getVolume24h() != null ? HAS_VOLUME : 0)
+                | (quote.getUpdatedAt() != null ? HAS_UPDATED_AT : 0);
+        out.writeByte((byte) mask);
+
+        if (quote.getSymbol() != null) {
+            out.writeString(quote.getSymbol());
+        }
+        if (quote.getPrice() != null) {
+            out.writeDecimal(quote.getPrice());
+        }
+        if (quote.getChange24h() != null) {
+            out.writeDecimal(quote.getChange24h());
+        }
+        if (quote.getVolume24h() != null) {
+            out.writeDecimal(quote.getVolume24h());
+        }
+        if (quote.getUpdatedAt() != null) {
+            LocalDateTime updatedAt = quote.getUpdatedAt();
+            out.writeVarLong(zigZag(updatedAt.toEpochSecond(ZoneOffset.UTC)));
+            out.writeVarLong(updatedAt.getNano());
+        }
+    }
+
+    private CoinQuote readQuote(Reader in) {
+        int mask = in.readByte();
+        CoinQuote quote = new CoinQuote();
+        if ((mask & HAS_SYMBOL) != 0) {
+            quote.setSymbol(in.readString());
+        }
+        if ((mask & HAS_PRICE) != 0) {
+            quote.setPrice(in.readDecimal());
+        }
+        if ((mask & HAS_CHANGE) != 0) {
+            quote.setChange24h(in.readDecimal());
+        }
+        if ((mask & HAS_VOLUME) != 0) {
+            quote.setVolume24h(in.readDecimal());
+        }
+        if ((mask & HAS_UPDATED_AT) != 0) {
+            long epochSecond = unZigZag(in.readVarLong());
+            int nano = (int) in.readVarLong();
+            quote.setUpdatedAt(LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC));
+        }
+        return quote;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+
+        private byte[] buffer = new byte[64];
+        private int position;
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        void writeFixedLong(long value) {
+            ensureCapacity(8);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[position++] = (byte) (value >>> shift);
+            }
+        }
+
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeBytes(byte[] bytes) {
+            writeVarLong(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        void writeString(String value) {
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * scale과 unscaled 형식(0: varint, 1: 바이트 배열)을 한 varint에 담음
+         * 시세 값은 거의 항상 long 범위라 BigInteger를 거치지 않고 복원됨
+         */
+        void writeDecimal(BigDecimal value) {
+            BigInteger unscaled = value.unscaledValue();
+            if (unscaled.bitLength() < 64) {
+                writeVarLong(zigZag(value.scale()) << 1);
+                writeVarLong(zigZag(unscaled.longValue()));
+            } else {
+                writeVarLong((zigZag(value.scale()) << 1) | 1);
+                writeBytes(unscaled.toByteArray());
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Reader {
+
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        long readFixedLong() {
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (buffer[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new SerializationException("varint 길이 초과");
+        }
+
+        byte[] readBytes() {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > buffer.length) {
+                throw new SerializationException("잘못된 길이: " + length);
+            }
+            byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+            position += length;
+            return bytes;
+        }
+
+        String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > buffer.length) {
+                throw new SerializationException("잘못된 길이: " + length);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        BigDecimal readDecimal() {
+            long header = readVarLong();
+            int scale = (int) unZigZag(header >>> 1);
+            if ((header & 1) == 0) {
+                return BigDecimal.valueOf(unZigZag(readVarLong()), scale);
+            }
+            return new BigDecimal(new BigInteger(readBytes()), scale);
+        }
+    }
+}
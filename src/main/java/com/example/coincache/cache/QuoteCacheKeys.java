@@ -0,0 +1,46 @@
+package com.example.coincache.cache;
+
+/**
+ * 시세 캐시 키/마커 규칙 (동기/리액티브 경로 공통)
+ */
+public final class QuoteCacheKeys {
+
+    public static final String CACHE_KEY_PREFIX = "quotes:";
+    public static final String LOCK_KEY_PREFIX = "lock:quotes:";
+    public static final String LOGICAL_CACHE_KEY_PREFIX = "quotes:logical:";
+    public static final String LOGICAL_LOCK_KEY_PREFIX = "lock:quotes:logical:";
+    public static final String NULL_MARKER = "__NULL__";
+
+    /**
+     * 락 보유자가 캐시 적재를 끝냈다고 알리는 pub/sub 채널 (채널명 끝이 심볼)
+     */
+    public static final String LOADED_CHANNEL_PREFIX = "channel:quotes:loaded:";
+
+    /**
+     * 인스턴스 공유 심볼 Bloom Filter 비트맵 (quotes: 접두사가 아니라 L1 무효화 추적 대상이 아님)
+     */
+    public static final String SYMBOL_FILTER_KEY = "bloom:quotes:symbols";
+
+    private QuoteCacheKeys() {
+    }
+
+    public static String cacheKey(String symbol) {
+        return CACHE_KEY_PREFIX + symbol;
+    }
+
+    public static String lockKey(String symbol) {
+        return LOCK_KEY_PREFIX + symbol;
+    }
+
+    public static String logicalCacheKey(String symbol) {
+        return LOGICAL_CACHE_KEY_PREFIX + symbol;
+    }
+
+    public static String logicalLockKey(String symbol) {
+        return LOGICAL_LOCK_KEY_PREFIX + symbol;
+    }
+
+    public static String loadedChannel(String symbol) {
+        return LOADED_CHANNEL_PREFIX + symbol;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.coincache.cache;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+
+/**
+ * 시세 캐시에서 쓰는 Lua 스크립트 모음 (동기/리액티브 경로 공통)
+ */
+public final class QuoteCacheScripts {
+
+    /**
+     * 토큰이 일치할 때만 락 해제
+     */
+    public static final DefaultRedisScript<Long> RELEASE_LOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    /**
+     * 값(또는 Null 마커) 저장 + 토큰 확인 락 해제 + 적재 알림을 원자적으로 처리 (1 RTT)
+     * 대기자가 락이 사라진 것을 본 시점에는 값이 반드시 저장되어 있음
+     * KEYS[1]=캐시 키, KEYS[2]=락 키 / ARGV[1]=값, ARGV[2]=TTL(ms), ARGV[3]=락 토큰, ARGV[4]=알림 채널, ARGV[5]=알림 내용
+     * 반환: 락을 해제했으면 1 (토큰이 다르면 0 - 락 TTL이 먼저 끝나 다른 요청이 잡은 경우)
+     */
+    public static final DefaultRedisScript<Long> SAVE_AND_RELEASE_LOCK = new DefaultRedisScript<>(
+            "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+                    "local released = 0 " +
+                    "if redis.call('get', KEYS[2]) == ARGV[3] then released = redis.call('del', KEYS[2]) end " +
+                    "redis.call('publish', ARGV[4], ARGV[5]) " +
+                    "return released",
+            Long.class
+    );
+
+    /**
+     * 논리 만료 엔트리 읽기 + 만료 시 갱신 락 시도 (1 RTT)
+     * KEYS[1]=캐시 키, KEYS[2]=갱신 락 키 / ARGV[1]=현재 시각(ms), ARGV[2]=락 토큰, ARGV[3]=락 TTL(ms)
+     * 반환: 미스면 빈 배열, 히트면 {값, 논리 만료 시각, stale(0/1), 락 획득(0/1), 남은 PTTL}
+     * 해시가 아닌 키(이전 포맷의 문자열 값)는 미스로 취급해 다시 적재되게 함
+     */
+    @SuppressWarnings("rawtypes")
+    public static final DefaultRedisScript<List> READ_LOGICAL = new DefaultRedisScript<>(
+            "if redis.call('type', KEYS[1]).ok ~= 'hash' then return {} end " +
+                    "local entry = redis.call('hmget', KEYS[1], 'v', 'e') " +
+                    "if not entry[1] then return {} end " +
+                    "local expireAt = tonumber(entry[2]) " +
+                    "local stale, won = 0, 0 " +
+                    "if tonumber(ARGV[1]) > expireAt then " +
+                    "stale = 1 " +
+                    "if redis.call('set', KEYS[2], ARGV[2], 'NX', 'PX', ARGV[3]) then won = 1 end " +
+                    "end " +
+                    "return {entry[1], expireAt, stale, won, redis.call('pttl', KEYS[1])}",
+            List.class
+    );
+
+    /**
+     * 논리 만료 엔트리 쓰기 (이전 포맷 값이 남아 있어도 덮어씀)
+     * KEYS[1]=캐시 키 / ARGV[1]=값, ARGV[2]=논리 만료 시각(ms), ARGV[3]=물리 TTL(ms)
+     */
+    public static final DefaultRedisScript<Long> WRITE_LOGICAL = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) " +
+                    "redis.call('hset', KEYS[1], 'v', ARGV[1], 'e', ARGV[2]) " +
+                    "redis.call('pexpire', KEYS[1], ARGV[3]) " +
+                    "return 1",
+            Long.class
+    );
+
+    /**
+     * Bloom Filter 비트 k개를 한 번에 확인 (1 RTT)
+     * KEYS[1]=비트맵 키 / ARGV=비트 위치들
+     * 반환: 모두 켜져 있으면 1, 하나라도 꺼져 있으면 0, 비트맵이 없으면 -1
+     */
+    public static final DefaultRedisScript<Long> BLOOM_CONTAINS = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "for i = 1, #ARGV do " +
+                    "if redis.call('getbit', KEYS[1], ARGV[i]) == 0 then return 0 end " +
+                    "end " +
+                    "return 1",
+            Long.class
+    );
+
+    /**
+     * Bloom Filter 비트 k개를 한 번에 켬 (1 RTT)
+     * 비트맵이 없으면 일부 비트만 있는 필터가 생겨 다른 심볼이 막히므로 만들지 않음
+     * KEYS[1]=비트맵 키 / ARGV=비트 위치들
+     * 반환: 새로 켠 비트가 있으면 1, 없으면 0, 비트맵이 없으면 -1
+     */
+    public static final DefaultRedisScript<Long> BLOOM_ADD = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "local changed = 0 " +
+                    "for i = 1, #ARGV do " +
+                    "if redis.call('setbit', KEYS[1], ARGV[i], 1) == 0 then changed = 1 end " +
+                    "end " +
+                    "return changed",
+            Long.class
+    );
+
+    private QuoteCacheScripts() {
+    }
+}
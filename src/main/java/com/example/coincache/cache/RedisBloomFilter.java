@@ -0,0 +1,89 @@
+package com.example.coincache.cache;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Redis 문자열(비트맵)에 비트를 두고 모든 인스턴스가 함께 쓰는 Bloom Filter
+ *
+ * - 해시/크기/비트 위치는 BloomFilter와 같아서, 오프라인으로 만든 BloomFilter를 SET 한 번으로 적재 가능
+ * - 조회/추가는 비트 위치 k개를 스크립트 인자로 넘겨 1 RTT
+ * - put은 공유 비트맵에 바로 반영되므로 모든 인스턴스가 즉시 신규 심볼을 통과시킴
+ * - 비트맵이 아직 없으면(적재 전, Redis 초기화 직후) 막지 않고 통과 (전부 차단보다 원천 조회가 나음)
+ */
+public class RedisBloomFilter {
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final int expectedInsertions;
+    private final double fpp;
+    private final int bitSize;
+    private final int numHashFunctions;
+
+    public RedisBloomFilter(StringRedisTemplate redisTemplate, String key, int expectedInsertions, double fpp) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.expectedInsertions = expectedInsertions;
+        this.fpp = fpp;
+        this.bitSize = BloomFilter.optimalBitSize(expectedInsertions, fpp);
+        this.numHashFunctions = BloomFilter.optimalNumHashFunctions(expectedInsertions, bitSize);
+    }
+
+    /**
+     * 이 필터와 같은 모양의 로컬 필터 (오프라인 빌드용)
+     */
+    public BloomFilter newLocalFilter() {
+        return new BloomFilter(expectedInsertions, fpp);
+    }
+
+    /**
+     * 오프라인으로 만든 필터로 비트맵 전체를 교체 (SET 1회)
+     */
+    public void load(BloomFilter filter) {
+        if (filter.bitSize() != bitSize || filter.numHashFunctions() != numHashFunctions) {
+            throw new IllegalArgumentException("Bloom filter shape mismatch: bitSize=" + filter.bitSize()
+                    + ", numHashFunctions=" + filter.numHashFunctions()
+                    + " (expected " + bitSize + ", " + numHashFunctions + ")");
+        }
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        byte[] bitmap = filter.toRedisBitmap();
+        redisTemplate.execute((RedisCallback<Boolean>) connection -> connection.stringCommands().set(rawKey, bitmap));
+    }
+
+    public boolean isLoaded() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+    }
+
+    /**
+     * @return 새로 켜진 비트가 있으면 true, 비트맵이 없어 반영하지 못했으면 false
+     */
+    public boolean put(String value) {
+        Long result = redisTemplate.execute(QuoteCacheScripts.BLOOM_ADD, List.of(key), bitOffsets(value));
+        return result != null && result == 1L;
+    }
+
+    public boolean mightContain(String value) {
+        Long result = redisTemplate.execute(QuoteCacheScripts.BLOOM_CONTAINS, List.of(key), bitOffsets(value));
+        return result == null || result != 0L;
+    }
+
+    public int bitSize() {
+        return bitSize;
+    }
+
+    public int numHashFunctions() {
+        return numHashFunctions;
+    }
+
+    private Object[] bitOffsets(String value) {
+        long[] hashes = Murmur3.hash128(value);
+        Object[] offsets = new Object[numHashFunctions];
+        for (int i = 0; i < numHashFunctions; i++) {
+            offsets[i] = Integer.toString(BloomFilter.bitIndex(hashes[0], hashes[1], i, bitSize));
+        }
+        return offsets;
+    }
+}
@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "cache.quotes")
@@ -48,4 +51,177 @@ public class CacheProperties {
      * SingleFlight 대기 시간 (밀리초)
      */
     private int singleFlightWaitMs = 500;
+
+    /**
+     * Redis 값 직렬화 포맷 (BINARY도 기존 JSON 값은 그대로 읽음)
+     */
+    private ValueCodec valueCodec = ValueCodec.JSON;
+
+    public enum ValueCodec {
+        JSON,
+        BINARY
+    }
+
+    /**
+     * 로컬 L1(near cache) 설정
+     */
+    private NearCacheProperties nearCache = new NearCacheProperties();
+
+    @Data
+    public static class NearCacheProperties {
+
+        /**
+         * L1 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 최대 엔트리 수
+         */
+        private int maxSize = 10_000;
+
+        /**
+         * L1 최대 TTL (밀리초) - Redis 남은 TTL보다 길어지지 않음, 무효화 추적 중에는 쓰지 않음
+         */
+        private long ttlMs = 1000;
+
+        /**
+         * Redis CLIENT TRACKING(BCAST, quotes: 접두사)으로 서버 무효화 받기
+         * RESP3 연결이 안 되면 경고 후 TTL 기반으로 동작
+         */
+        private boolean tracking = true;
+    }
+
+    /**
+     * 미스 합치기(배치 로더) 설정
+     */
+    private BatchLoaderProperties batchLoader = new BatchLoaderProperties();
+
+    @Data
+    public static class BatchLoaderProperties {
+
+        /**
+         * 배치 로더 사용 여부 (끄면 미스마다 단건 원천 조회)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 미스를 모으는 최대 대기 시간 (밀리초)
+         */
+        private long maxWaitMs = 2;
+
+        /**
+         * 한 번에 원천으로 보내는 최대 키 수 (도달하면 대기 없이 바로 전송)
+         */
+        private int maxBatchSize = 64;
+
+        /**
+         * 원천 일괄 조회를 실행하는 스레드 수
+         */
+        private int dispatchThreads = 4;
+
+        /**
+         * 호출자가 원천 일괄 조회 결과를 기다리는 최대 시간 (밀리초, 0이면 무제한)
+         * 원천 지연 분포와 디스패치 대기열 길이를 덮을 만큼 넉넉히 - 락 TTL과는 무관
+         */
+        private long loadTimeoutMs = 10_000;
+    }
+
+    /**
+     * 심볼 Bloom Filter 설정 (크기는 인스턴스 간 같아야 Redis 비트맵을 공유함)
+     */
+    private SymbolFilterProperties symbolFilter = new SymbolFilterProperties();
+
+    @Data
+    public static class SymbolFilterProperties {
+
+        /**
+         * 조회 경로에서 원천 화이트리스트 대신 Bloom Filter 사용
+         */
+        private boolean enabled = true;
+
+        /**
+         * LOCAL: 인스턴스마다 자기 필터 / REDIS: 모든 인스턴스가 Redis 비트맵 하나를 공유 (put이 바로 전체에 반영)
+         */
+        private Mode mode = Mode.LOCAL;
+
+        /**
+         * 전체 재구성 주기 (초, 0이면 재구성 안 함)
+         */
+        private long rebuildIntervalSeconds = 300;
+
+        /**
+         * 예상 심볼 수 (로컬 필터는 실제 심볼 수의 2배와 비교해 큰 값)
+         */
+        private int expectedInsertions = 100_000;
+
+        /**
+         * 목표 오탐률
+         */
+        private double fpp = 0.01d;
+
+        /**
+         * 필터 스냅샷 파일 (비우면 사용 안 함)
+         * 기동 시 이 파일을 매핑해 원천 조회 없이 바로 쓰고, 재구성/종료 때마다 다시 저장
+         */
+        private String snapshotPath = "";
+
+        public enum Mode {
+            LOCAL,
+            REDIS
+        }
+    }
+
+    /**
+     * 구간별 지연 히스토그램 설정 (/internal/latency)
+     */
+    private LatencyProperties latency = new LatencyProperties();
+
+    @Data
+    public static class LatencyProperties {
+
+        /**
+         * 구간 지연 기록 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * HOT으로 따로 집계할 심볼 (나머지는 COLD)
+         */
+        private List<String> hotSymbols = new ArrayList<>(List.of("BTC", "ETH", "XRP", "SOL"));
+
+        /**
+         * 구간 스냅샷 주기 (초, 0이면 자동 교체 안 함)
+         */
+        private long snapshotIntervalSeconds = 10;
+
+        /**
+         * 기록 상한 (밀리초) - 넘는 값은 상한으로 기록
+         */
+        private long maxTrackableMs = 60_000;
+    }
+
+    /**
+     * 접근 트레이스 기록 설정 (오프라인 재생용)
+     */
+    private TraceProperties trace = new TraceProperties();
+
+    @Data
+    public static class TraceProperties {
+
+        /**
+         * 기동 시 바로 기록 시작
+         */
+        private boolean enabled = false;
+
+        /**
+         * 트레이스 파일 경로 (시작할 때마다 덮어씀)
+         */
+        private String path = "traces/access.trace";
+
+        /**
+         * 기록 대기 큐 크기 - 가득 차면 이벤트를 버림
+         */
+        private int queueCapacity = 65_536;
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.coincache.config;
+
+import com.example.coincache.cache.NearCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class NearCacheConfig {
+
+    @Bean
+    public NearCache quoteNearCache(CacheProperties cacheProperties) {
+        CacheProperties.NearCacheProperties properties = cacheProperties.getNearCache();
+        return new NearCache(properties.isEnabled(), properties.getMaxSize(), properties.getTtlMs());
+    }
+}
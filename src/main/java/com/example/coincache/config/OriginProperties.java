@@ -0,0 +1,91 @@
+package com.example.coincache.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원천(거래소 API 흉내) 시뮬레이션 설정 - 기본값은 고정 지연만 있는 기존 동작
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "repository")
+public class OriginProperties {
+
+    /**
+     * 원천 조회 지연 (밀리초) - CONSTANT는 그대로, LOGNORMAL/BIMODAL은 중앙값(빠른 쪽)
+     */
+    private int latencyMs = 50;
+
+    /**
+     * 지연 분포/장애/한도/가격 변동
+     */
+    private SimulatorProperties simulator = new SimulatorProperties();
+
+    public enum LatencyDistribution {
+        CONSTANT,
+        LOGNORMAL,
+        BIMODAL
+    }
+
+    @Data
+    public static class SimulatorProperties {
+
+        private LatencyDistribution latencyDistribution = LatencyDistribution.CONSTANT;
+
+        /**
+         * LOGNORMAL/BIMODAL 퍼짐 정도 (로그 표준편차)
+         */
+        private double latencySigma = 0.5;
+
+        /**
+         * BIMODAL 느린 쪽 중앙값 (밀리초)
+         */
+        private int slowLatencyMs = 800;
+
+        /**
+         * BIMODAL 느린 쪽으로 갈 확률
+         */
+        private double slowProbability = 0.05;
+
+        /**
+         * 분포와 별개로 수 초간 멈출 확률
+         */
+        private double stallProbability = 0;
+
+        /**
+         * 멈춤 시간 (밀리초)
+         */
+        private int stallMs = 3000;
+
+        /**
+         * 호출 실패 확률 (지연 이후 판정)
+         */
+        private double errorRate = 0;
+
+        /**
+         * 실패 중 타임아웃 비율 (timeoutMs를 기다린 뒤 실패, 나머지는 즉시 UNAVAILABLE)
+         */
+        private double timeoutShare = 0.3;
+
+        /**
+         * 타임아웃 실패까지 걸리는 시간 (밀리초)
+         */
+        private int timeoutMs = 1000;
+
+        /**
+         * 동시 호출 상한 (0이면 무제한, 넘으면 즉시 거절)
+         */
+        private int maxConcurrentRequests = 0;
+
+        /**
+         * 초당 호출 한도 (0이면 무제한, 1초 고정 창 기준으로 넘으면 거절)
+         */
+        private int requestsPerSecond = 0;
+
+        /**
+         * 가격 변동성 - 초당 로그 수익률 표준편차 (0이면 가격 고정)
+         */
+        private double priceVolatility = 0;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.coincache.config;
+
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.cache.RedisBloomFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+public class SymbolFilterConfig {
+
+    @Bean
+    public RedisBloomFilter redisSymbolFilter(StringRedisTemplate stringRedisTemplate, CacheProperties cacheProperties) {
+        CacheProperties.SymbolFilterProperties properties = cacheProperties.getSymbolFilter();
+        return new RedisBloomFilter(stringRedisTemplate, QuoteCacheKeys.SYMBOL_FILTER_KEY,
+                properties.getExpectedInsertions(), properties.getFpp());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.coincache.controller;
+
+import com.example.coincache.service.CacheMetrics;
+import com.example.coincache.service.LatencyRecorder;
+import com.example.coincache.service.LatencyStage;
+import com.example.coincache.service.ReadStrategy;
+import com.example.coincache.service.SymbolClass;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 구간별 지연 분위수 (GET /internal/latency)
+ *
+ * - interval: 마지막 스냅샷 구간 (cache.quotes.latency.snapshot-interval-seconds)
+ * - cumulative: 기동 후 마지막 스냅샷까지 누적
+ * 전략 -> hot/cold -> 구간 순으로, 기록이 없는 구간은 생략 (단위 ms)
+ */
+@RestController
+@RequestMapping("/internal/latency")
+@RequiredArgsConstructor
+public class LatencyController {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    private final LatencyRecorder latencyRecorder;
+
+    @GetMapping
+    public Map<String, Object> latency() {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("interval", summarize(latencyRecorder.intervalSnapshot()));
+        body.put("cumulative", summarize(latencyRecorder.cumulativeSnapshot()));
+        return body;
+    }
+
+    private Map<String, Object> summarize(LatencyRecorder.Snapshot snapshot) {
+        Map<String, Object> strategies = new LinkedHashMap<>();
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            Map<String, Object> classes = new LinkedHashMap<>();
+            for (SymbolClass symbolClass : SymbolClass.values()) {
+                Map<String, Object> stages = new LinkedHashMap<>();
+                for (LatencyStage stage : LatencyStage.values()) {
+                    Histogram histogram = snapshot.histogram(strategy, symbolClass, stage);
+                    if (histogram.getTotalCount() > 0) {
+                        stages.put(stage.tag(), percentiles(histogram));
+                    }
+                }
+                classes.put(symbolClass.tag(), stages);
+            }
+            strategies.put(CacheMetrics.tag(strategy), classes);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("fromMillis", snapshot.fromMillis());
+        summary.put("toMillis", snapshot.toMillis());
+        summary.put("strategies", strategies);
+        return summary;
+    }
+
+    private Map<String, Object> percentiles(Histogram histogram) {
+        Map<String, Object> percentiles = new LinkedHashMap<>();
+        percentiles.put("count", histogram.getTotalCount());
+        percentiles.put("p50Ms", histogram.getValueAtPercentile(50) / NANOS_PER_MILLI);
+        percentiles.put("p99Ms", histogram.getValueAtPercentile(99) / NANOS_PER_MILLI);
+        percentiles.put("p999Ms", histogram.getValueAtPercentile(99.9) / NANOS_PER_MILLI);
+        percentiles.put("maxMs", histogram.getMaxValue() / NANOS_PER_MILLI);
+        return percentiles;
+    }
+}
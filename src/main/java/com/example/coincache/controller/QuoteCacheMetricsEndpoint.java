@@ -0,0 +1,52 @@
+package com.example.coincache.controller;
+
+import com.example.coincache.service.CacheMetrics;
+import com.example.coincache.service.CacheOutcome;
+import com.example.coincache.service.ReadStrategy;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전략별 캐시 경로 카운트와 Redis/원천 지연 요약 (GET /actuator/quotecache)
+ * 개별 meter는 /actuator/metrics/cache.quotes.requests?tag=strategy:lock 처럼 조회
+ */
+@Component
+@Endpoint(id = "quotecache")
+@RequiredArgsConstructor
+public class QuoteCacheMetricsEndpoint {
+
+    private final CacheMetrics metrics;
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        Map<String, Object> requests = new LinkedHashMap<>();
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            Map<String, Long> outcomes = new LinkedHashMap<>();
+            for (CacheOutcome outcome : CacheOutcome.values()) {
+                outcomes.put(outcome.tag(), metrics.count(strategy, outcome));
+            }
+            requests.put(CacheMetrics.tag(strategy), outcomes);
+        }
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", requests);
+        summary.put("redis", latency(metrics.redisTimer()));
+        summary.put("origin", latency(metrics.originTimer()));
+        return summary;
+    }
+
+    private Map<String, Object> latency(Timer timer) {
+        Map<String, Object> latency = new LinkedHashMap<>();
+        latency.put("count", timer.count());
+        latency.put("meanMs", timer.mean(TimeUnit.MILLISECONDS));
+        latency.put("maxMs", timer.max(TimeUnit.MILLISECONDS));
+        return latency;
+    }
+}
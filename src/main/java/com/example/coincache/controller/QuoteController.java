@@ -6,6 +6,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -26,6 +28,17 @@ public class QuoteController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    /**
+     * 다건 조회 (예: /api/quotes?symbols=BTC,ETH,XRP)
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, CoinQuote>> getQuotes(@RequestParam List<String> symbols) {
+        List<String> normalized = symbols.stream()
+                .map(String::toUpperCase)
+                .toList();
+        return ResponseEntity.ok(quoteCacheService.getQuotes(normalized));
+    }
+
     @PostMapping("/{symbol}/refresh")
     public ResponseEntity<Void> refreshCache(@PathVariable String symbol,
                                               @RequestBody CoinQuote quote) {
@@ -0,0 +1,36 @@
+package com.example.coincache.controller;
+
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.service.ReactiveQuoteCacheService;
+import com.example.coincache.service.ReadStrategy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 논블로킹 시세 조회 API
+ * Mono를 반환하므로 요청 스레드는 Redis/락/SingleFlight 대기 동안 반납됨 (비동기 요청 처리)
+ *
+ * 예: /api/quotes/reactive/BTC?strategy=SINGLE_FLIGHT
+ */
+@RestController
+@RequestMapping("/api/quotes/reactive")
+@RequiredArgsConstructor
+public class ReactiveQuoteController {
+
+    private final ReactiveQuoteCacheService reactiveQuoteCacheService;
+
+    @GetMapping("/{symbol}")
+    public Mono<ResponseEntity<CoinQuote>> getQuote(@PathVariable String symbol,
+                                                    @RequestParam(defaultValue = "LOCK") ReadStrategy strategy) {
+        return reactiveQuoteCacheService.getQuote(symbol.toUpperCase(), strategy)
+                .map(quote -> quote
+                        .map(ResponseEntity::ok)
+                        .orElse(ResponseEntity.notFound().build()));
+    }
+}
@@ -2,6 +2,9 @@ package com.example.coincache.repository;
 
 import com.example.coincache.domain.CoinQuote;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -17,8 +20,27 @@ public interface CoinQuoteRepository {
      */
     Optional<CoinQuote> findBySymbol(String symbol);
 
+    /**
+     * 원천에서 여러 시세를 한 번에 조회
+     * 기본 구현은 단건 조회를 반복하므로, 벌크 API가 있는 저장소는 재정의해서 1회 호출로 처리
+     * @param symbols 코인 심볼 목록
+     * @return 심볼별 시세 (없는 심볼은 포함하지 않음)
+     */
+    default Map<String, CoinQuote> findBySymbols(Collection<String> symbols) {
+        Map<String, CoinQuote> quotes = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            findBySymbol(symbol).ifPresent(quote -> quotes.put(symbol, quote));
+        }
+        return quotes;
+    }
+
     /**
      * 심볼 존재 여부 확인 (화이트리스트 체크)
      */
     boolean existsSymbol(String symbol);
+
+    /**
+     * 전체 심볼 목록 (심볼 필터 구성용 - 기동/주기 재구성 때만 호출)
+     */
+    Collection<String> findAllSymbols();
 }
@@ -2,22 +2,27 @@ package com.example.coincache.repository;
 
 import com.example.coincache.domain.CoinQuote;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * 테스트용 인메모리 원천 저장소
  * 실제 환경에서는 외부 API 호출로 대체
+ * 지연 분포/실패/호출 한도/가격 변동은 OriginSimulator (repository.simulator.*)
  */
 @Slf4j
 @Repository
@@ -32,8 +37,13 @@ public class InMemoryCoinQuoteRepository implements CoinQuoteRepository {
     // 원천 조회 카운터 (테스트용 - 캐시 스탬피드 확인)
     private final AtomicInteger queryCount = new AtomicInteger(0);
 
-    @Value("${repository.latency-ms:50}")
-    private int sourceLatencyMs;
+    // 원천 호출 지연/실패/한도 시뮬레이션
+    @Autowired
+    private OriginSimulator originSimulator;
+
+    // 심볼 추가/초기화 알림 (생성자 초기 데이터 적재 시점에는 아직 없음)
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
 
     public InMemoryCoinQuoteRepository() {
         initializeData();
@@ -65,21 +75,44 @@ public class InMemoryCoinQuoteRepository implements CoinQuoteRepository {
         int count = queryCount.incrementAndGet();
         log.info("[원천 조회] symbol={}, 총 조회 횟수={}", symbol, count);
 
-        // 원천 조회 지연 시뮬레이션 (50ms)
-        simulateLatency();
-
-        CoinQuote quote = dataStore.get(symbol);
-        if (quote != null) {
-            // 조회 시점 업데이트 (기존 데이터 복사 + updatedAt만 변경)
-            quote = CoinQuote.builder()
-                    .symbol(quote.getSymbol())
-                    .price(quote.getPrice())
-                    .change24h(quote.getChange24h())
-                    .volume24h(quote.getVolume24h())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
+        return simulate(() -> Optional.ofNullable(snapshot(symbol)));
+    }
+
+    /**
+     * 벌크 조회 - 지연은 배치당 한 번만 발생 (원천 조회 횟수도 1회로 집계)
+     */
+    @Override
+    public Map<String, CoinQuote> findBySymbols(Collection<String> symbols) {
+        int count = queryCount.incrementAndGet();
+        log.info("[원천 일괄 조회] {}건, 총 조회 횟수={}", symbols.size(), count);
+
+        return simulate(() -> {
+            Map<String, CoinQuote> quotes = new LinkedHashMap<>();
+            for (String symbol : symbols) {
+                CoinQuote quote = snapshot(symbol);
+                if (quote != null) {
+                    quotes.put(symbol, quote);
+                }
+            }
+            return quotes;
+        });
+    }
+
+    // 조회 시점 업데이트 (기존 데이터 복사 + updatedAt만 변경, 가격 변동이 켜져 있으면 변동분을 저장 후 복사)
+    private CoinQuote snapshot(String symbol) {
+        CoinQuote quote = originSimulator != null && originSimulator.isDriftEnabled()
+                ? dataStore.computeIfPresent(symbol, (key, current) -> originSimulator.drift(current, LocalDateTime.now()))
+                : dataStore.get(symbol);
+        if (quote == null) {
+            return null;
         }
-        return Optional.ofNullable(quote);
+        return CoinQuote.builder()
+                .symbol(quote.getSymbol())
+                .price(quote.getPrice())
+                .change24h(quote.getChange24h())
+                .volume24h(quote.getVolume24h())
+                .updatedAt(LocalDateTime.now())
+                .build();
     }
 
     @Override
@@ -87,15 +120,16 @@ public class InMemoryCoinQuoteRepository implements CoinQuoteRepository {
         return validSymbols.contains(symbol);
     }
 
-    private void simulateLatency() {
-        if (sourceLatencyMs <= 0) {
-            return;
-        }
-        try {
-            Thread.sleep(sourceLatencyMs);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+    @Override
+    public Collection<String> findAllSymbols() {
+        return List.copyOf(validSymbols);
+    }
+
+    private <T> T simulate(Supplier<T> fetch) {
+        if (originSimulator == null) {
+            return fetch.get();
         }
+        return originSimulator.call(fetch);
     }
 
     // 테스트 헬퍼 메서드
@@ -118,22 +152,31 @@ public class InMemoryCoinQuoteRepository implements CoinQuoteRepository {
     }
 
     public void addValidSymbolOnly(String symbol) {
-        validSymbols.add(symbol);
+        addValidSymbol(symbol);
     }
 
     public void updateQuote(String symbol, CoinQuote quote) {
         dataStore.put(symbol, quote);
-        validSymbols.add(symbol);
+        addValidSymbol(symbol);
     }
 
     public void resetData() {
         dataStore.clear();
         validSymbols.clear();
         initializeData();
+        if (eventPublisher != null) {
+            eventPublisher.publishEvent(new SymbolCatalogResetEvent());
+        }
     }
 
     private void addQuote(CoinQuote quote) {
         dataStore.put(quote.getSymbol(), quote);
-        validSymbols.add(quote.getSymbol());
+        addValidSymbol(quote.getSymbol());
+    }
+
+    private void addValidSymbol(String symbol) {
+        if (validSymbols.add(symbol) && eventPublisher != null) {
+            eventPublisher.publishEvent(new SymbolListedEvent(symbol));
+        }
     }
 }
@@ -0,0 +1,41 @@
+package com.example.coincache.repository;
+
+/**
+ * 원천 호출 실패 (시뮬레이터가 거래소 API의 실패 유형을 흉내 냄)
+ */
+public class OriginException extends RuntimeException {
+
+    public enum Type {
+
+        /**
+         * 응답 없이 시간 초과
+         */
+        TIMEOUT,
+
+        /**
+         * 5xx/연결 실패
+         */
+        UNAVAILABLE,
+
+        /**
+         * 초당 호출 한도 초과 (429)
+         */
+        RATE_LIMITED,
+
+        /**
+         * 동시 호출 상한 초과
+         */
+        CONCURRENCY_LIMITED
+    }
+
+    private final Type type;
+
+    public OriginException(Type type, String message) {
+        super(message);
+        this.type = type;
+    }
+
+    public Type getType() {
+        return type;
+    }
+}
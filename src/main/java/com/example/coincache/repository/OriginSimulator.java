@@ -0,0 +1,144 @@
+package com.example.coincache.repository;
+
+import com.example.coincache.config.OriginProperties;
+import com.example.coincache.domain.CoinQuote;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 원천 호출 시뮬레이터 - 고정 지연 대신 실제 거래소 API에서 보는 꼬리/실패/한도를 재현
+ *
+ * - 지연: CONSTANT / LOGNORMAL(중앙값 x e^(sigma*Z)) / BIMODAL(빠른 쪽과 느린 쪽 각각 로그정규)
+ *   + 분포와 별개인 수 초 멈춤
+ * - 한도: 초당 호출 수(1초 고정 창)와 동시 호출 수를 넘으면 지연 없이 바로 거절
+ * - 실패: 지연 이후 errorRate로 TIMEOUT(timeoutMs 대기 후) 또는 UNAVAILABLE
+ * - 가격: 조회 시점까지 흐른 시간만큼 기하 브라운 운동으로 변동
+ */
+@Component
+public class OriginSimulator {
+
+    private static final MathContext PRICE_PRECISION = new MathContext(10);
+
+    private final OriginProperties properties;
+    private final Semaphore concurrency;
+    private final Object quotaLock = new Object();
+
+    private long windowStartNanos = System.nanoTime();
+    private int windowCount;
+
+    public OriginSimulator(OriginProperties properties) {
+        this.properties = properties;
+        int maxConcurrent = properties.getSimulator().getMaxConcurrentRequests();
+        this.concurrency = maxConcurrent > 0 ? new Semaphore(maxConcurrent) : null;
+    }
+
+    /**
+     * 한도 확인 -> 지연 -> 실패 판정 순서로 거친 뒤 fetch 실행
+     *
+     * @throws OriginException 한도 초과 또는 실패 판정
+     */
+    public <T> T call(Supplier<T> fetch) {
+        admitRate();
+        if (concurrency != null && !concurrency.tryAcquire()) {
+            throw new OriginException(OriginException.Type.CONCURRENCY_LIMITED, "origin concurrency limit exceeded");
+        }
+        try {
+            sleep(sampleLatencyMs());
+            failRandomly();
+            return fetch.get();
+        } finally {
+            if (concurrency != null) {
+                concurrency.release();
+            }
+        }
+    }
+
+    public boolean isDriftEnabled() {
+        return properties.getSimulator().getPriceVolatility() > 0;
+    }
+
+    /**
+     * 마지막 갱신(updatedAt) 이후 흐른 시간만큼 가격을 움직인 새 시세 (평균 가격은 유지되도록 보정)
+     */
+    public CoinQuote drift(CoinQuote quote, LocalDateTime now) {
+        double seconds = Math.max(0, Duration.between(quote.getUpdatedAt(), now).toNanos() / 1_000_000_000d);
+        double volatility = properties.getSimulator().getPriceVolatility();
+        double shock = volatility * Math.sqrt(seconds) * ThreadLocalRandom.current().nextGaussian();
+        double factor = Math.exp(shock - volatility * volatility * seconds / 2);
+        return CoinQuote.builder()
+                .symbol(quote.getSymbol())
+                .price(quote.getPrice().multiply(BigDecimal.valueOf(factor), PRICE_PRECISION))
+                .change24h(quote.getChange24h())
+                .volume24h(quote.getVolume24h())
+                .updatedAt(now)
+                .build();
+    }
+
+    long sampleLatencyMs() {
+        OriginProperties.SimulatorProperties simulator = properties.getSimulator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (simulator.getStallProbability() > 0 && random.nextDouble() < simulator.getStallProbability()) {
+            return simulator.getStallMs();
+        }
+        int median = properties.getLatencyMs();
+        return switch (simulator.getLatencyDistribution()) {
+            case CONSTANT -> median;
+            case LOGNORMAL -> logNormal(median, simulator.getLatencySigma(), random);
+            case BIMODAL -> random.nextDouble() < simulator.getSlowProbability()
+                    ? logNormal(simulator.getSlowLatencyMs(), simulator.getLatencySigma(), random)
+                    : logNormal(median, simulator.getLatencySigma(), random);
+        };
+    }
+
+    private static long logNormal(int median, double sigma, ThreadLocalRandom random) {
+        return Math.round(median * Math.exp(sigma * random.nextGaussian()));
+    }
+
+    private void admitRate() {
+        int limit = properties.getSimulator().getRequestsPerSecond();
+        if (limit <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        synchronized (quotaLock) {
+            if (now - windowStartNanos >= 1_000_000_000L) {
+                windowStartNanos = now;
+                windowCount = 0;
+            }
+            if (++windowCount > limit) {
+                throw new OriginException(OriginException.Type.RATE_LIMITED, "origin rate limit exceeded: " + limit + "/s");
+            }
+        }
+    }
+
+    private void failRandomly() {
+        OriginProperties.SimulatorProperties simulator = properties.getSimulator();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (simulator.getErrorRate() <= 0 || random.nextDouble() >= simulator.getErrorRate()) {
+            return;
+        }
+        if (random.nextDouble() < simulator.getTimeoutShare()) {
+            sleep(simulator.getTimeoutMs());
+            throw new OriginException(OriginException.Type.TIMEOUT, "origin timed out");
+        }
+        throw new OriginException(OriginException.Type.UNAVAILABLE, "origin unavailable");
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
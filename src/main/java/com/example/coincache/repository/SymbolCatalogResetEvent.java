@@ -0,0 +1,7 @@
+package com.example.coincache.repository;
+
+/**
+ * 원천 심볼 목록이 통째로 바뀜 (심볼 필터 전체 재구성용)
+ */
+public record SymbolCatalogResetEvent() {
+}
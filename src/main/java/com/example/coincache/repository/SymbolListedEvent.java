@@ -0,0 +1,7 @@
+package com.example.coincache.repository;
+
+/**
+ * 원천에 새 심볼이 생김 (심볼 필터 증분 반영용)
+ */
+public record SymbolListedEvent(String symbol) {
+}
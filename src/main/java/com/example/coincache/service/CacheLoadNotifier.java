@@ -0,0 +1,119 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.QuoteCacheKeys;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 캐시 적재 완료 알림 (락 대기자를 sleep-폴링 대신 신호로 깨움)
+ *
+ * - 락 보유자: 캐시 저장 + 락 해제 후 channel:quotes:loaded:{symbol} 로 PUBLISH
+ * - 대기자: 심볼별 Future에 등록 → 캐시 재확인 → 신호 또는 타임아웃까지 대기
+ * - 구독은 패턴 하나(channel:quotes:loaded:*)로 시작 시 한 번만 걸어서 키마다 SUBSCRIBE 하지 않음
+ * - 같은 심볼 대기자들은 Future 하나를 공유하고, 신호가 오면 한꺼번에 깨어남
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheLoadNotifier {
+
+    static final String PAYLOAD = "1";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        listenerContainer.addMessageListener(this::onMessage,
+                new PatternTopic(QuoteCacheKeys.LOADED_CHANNEL_PREFIX + "*"));
+    }
+
+    /**
+     * 신호 대기 등록 - 등록 후에 캐시를 다시 읽어야 등록 직전에 끝난 적재를 놓치지 않음
+     * 반환된 Future는 같은 심볼 대기자끼리 공유하므로 cancel 하지 말 것
+     */
+    public CompletableFuture<Void> register(String symbol) {
+        return waiters.computeIfAbsent(symbol, key -> new CompletableFuture<>());
+    }
+
+    /**
+     * 타임아웃/인터럽트면 Future를 등록 해제 (신호가 끝내 안 오면 심볼별 항목이 계속 남으므로)
+     * 같은 Future를 기다리던 다른 대기자도 곧 같은 락 TTL로 타임아웃되고, 이후 등록자는 새 Future를 받음
+     *
+     * @return 신호를 받았으면 true, 타임아웃/인터럽트면 false
+     */
+    public boolean await(String symbol, CompletableFuture<Void> signal, long timeoutMs) {
+        if (awaitSignal(signal, timeoutMs)) {
+            return true;
+        }
+        unregister(symbol, signal);
+        return false;
+    }
+
+    /**
+     * 다건 경로의 await - 모든 신호를 기다리고, 타임아웃 시 아직 안 온 신호만 등록 해제
+     *
+     * @return 모든 신호를 받았으면 true
+     */
+    public boolean awaitAll(Map<String, CompletableFuture<Void>> signals, long timeoutMs) {
+        CompletableFuture<Void> all = CompletableFuture.allOf(signals.values().toArray(CompletableFuture[]::new));
+        if (awaitSignal(all, timeoutMs)) {
+            return true;
+        }
+        signals.forEach((symbol, signal) -> {
+            if (!signal.isDone()) {
+                unregister(symbol, signal);
+            }
+        });
+        return false;
+    }
+
+    /**
+     * 아직 같은 Future가 등록돼 있을 때만 제거 (그 사이 신호를 받고 새로 등록된 Future는 유지)
+     */
+    public void unregister(String symbol, CompletableFuture<Void> signal) {
+        waiters.remove(symbol, signal);
+    }
+
+    public void publish(String symbol) {
+        stringRedisTemplate.convertAndSend(QuoteCacheKeys.loadedChannel(symbol), PAYLOAD);
+    }
+
+    private boolean awaitSignal(CompletableFuture<Void> signal, long timeoutMs) {
+        try {
+            signal.get(timeoutMs, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (TimeoutException | ExecutionException e) {
+            return false;
+        }
+    }
+
+    private void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        String symbol = channel.substring(QuoteCacheKeys.LOADED_CHANNEL_PREFIX.length());
+        CompletableFuture<Void> signal = waiters.remove(symbol);
+        if (signal != null) {
+            log.debug("[적재 알림 수신] symbol={}", symbol);
+            signal.complete(null);
+        }
+    }
+}
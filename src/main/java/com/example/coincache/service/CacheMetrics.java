@@ -0,0 +1,85 @@
+package com.example.coincache.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회 전략별 캐시 경로 카운터 + Redis/원천 지연 타이머 (Micrometer)
+ *
+ * - cache.quotes.requests{strategy, outcome}: 모든 조합을 기동 시 등록해 두고 배열 인덱스로 꺼냄
+ *   (조회마다 태그/Meter.Id를 만들지 않아 히트 경로에서 할당 없음)
+ * - cache.quotes.redis.latency: L1을 지나 Redis까지 간 읽기
+ * - cache.quotes.origin.latency: 원천 조회 (단건/벌크)
+ * - 타이머는 Timer.Sample 대신 nanoTime 차이를 직접 기록 (역시 할당 없음)
+ */
+@Component
+public class CacheMetrics {
+
+    public static final String REQUESTS = "cache.quotes.requests";
+    public static final String REDIS_LATENCY = "cache.quotes.redis.latency";
+    public static final String ORIGIN_LATENCY = "cache.quotes.origin.latency";
+
+    private final Counter[][] counters;
+    private final Timer redisTimer;
+    private final Timer originTimer;
+
+    public CacheMetrics(MeterRegistry registry) {
+        ReadStrategy[] strategies = ReadStrategy.values();
+        CacheOutcome[] outcomes = CacheOutcome.values();
+        this.counters = new Counter[strategies.length][outcomes.length];
+        for (ReadStrategy strategy : strategies) {
+            for (CacheOutcome outcome : outcomes) {
+                counters[strategy.ordinal()][outcome.ordinal()] = Counter.builder(REQUESTS)
+                        .description("시세 조회 처리 경로")
+                        .tag("strategy", tag(strategy))
+                        .tag("outcome", outcome.tag())
+                        .register(registry);
+            }
+        }
+        this.redisTimer = Timer.builder(REDIS_LATENCY)
+                .description("L1 미스 후 Redis 읽기 지연")
+                .register(registry);
+        this.originTimer = Timer.builder(ORIGIN_LATENCY)
+                .description("원천 조회 지연")
+                .register(registry);
+    }
+
+    public void record(ReadStrategy strategy, CacheOutcome outcome) {
+        counters[strategy.ordinal()][outcome.ordinal()].increment();
+    }
+
+    /**
+     * @param startNanos 호출 직전의 System.nanoTime()
+     */
+    public void recordRedis(long startNanos) {
+        redisTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * @param startNanos 호출 직전의 System.nanoTime()
+     */
+    public void recordOrigin(long startNanos) {
+        originTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long count(ReadStrategy strategy, CacheOutcome outcome) {
+        return (long) counters[strategy.ordinal()][outcome.ordinal()].count();
+    }
+
+    public Timer redisTimer() {
+        return redisTimer;
+    }
+
+    public Timer originTimer() {
+        return originTimer;
+    }
+
+    public static String tag(ReadStrategy strategy) {
+        return strategy.name().toLowerCase(Locale.ROOT).replace('_', '-');
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.coincache.service;
+
+/**
+ * 조회 한 번이 어느 경로로 처리됐는지 (메트릭 outcome 태그)
+ */
+public enum CacheOutcome {
+
+    /**
+     * 캐시 값 반환 (L1 또는 Redis)
+     */
+    HIT("hit"),
+
+    /**
+     * Null 캐시 반환 (원천에 없음을 캐시에서 확인)
+     */
+    NULL_HIT("null-hit"),
+
+    /**
+     * 캐시에 없음 (이후 락/SingleFlight/원천 경로로 진행)
+     */
+    MISS("miss"),
+
+    /**
+     * 분산 락을 잡고 원천 조회
+     */
+    LOCK_ACQUIRED("lock-acquired"),
+
+    /**
+     * 락을 못 잡아 적재 완료를 기다림
+     */
+    LOCK_WAITED("lock-waited"),
+
+    /**
+     * 대기 후에도 캐시가 비어 락 재시도/직접 원천 조회로 넘어감
+     */
+    RETRY_FALLBACK("retry-fallback"),
+
+    /**
+     * 논리 만료된 값을 그대로 반환
+     */
+    STALE_SERVED("stale-served"),
+
+    /**
+     * 논리 만료 갱신 락을 잡아 비동기 갱신 시작
+     */
+    REFRESH_TRIGGERED("refresh-triggered"),
+
+    /**
+     * 같은 키의 진행 중인 원천 조회 결과를 공유
+     */
+    SINGLEFLIGHT_JOINED("singleflight-joined");
+
+    private final String tag;
+
+    CacheOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
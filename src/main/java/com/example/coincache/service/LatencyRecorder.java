@@ -0,0 +1,162 @@
+package com.example.coincache.service;
+
+import com.example.coincache.config.CacheProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단건 조회 구간별 지연 히스토그램 (HdrHistogram)
+ *
+ * - 전략 x 심볼 구분(hot/cold) x 구간마다 Recorder 하나 - 기록은 wait-free라 요청 스레드끼리 경합 없음
+ * - snapshot-interval-seconds마다 구간 히스토그램을 떼어 내 직전 구간 스냅샷으로 두고 누적본에 더함
+ *   (p99/p999는 평균과 달리 구간을 합치면 의미가 바뀌므로 둘 다 보관)
+ * - 정밀도는 유효 숫자 2자리(약 1%), 1us 단위 - 값은 max-trackable-ms에서 잘라 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LatencyRecorder {
+
+    private static final long LOWEST_DISCERNIBLE_NANOS = 1_000;
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final int STRATEGIES = ReadStrategy.values().length;
+    private static final int CLASSES = SymbolClass.values().length;
+    private static final int STAGES = LatencyStage.values().length;
+
+    private final CacheProperties cacheProperties;
+
+    private boolean enabled;
+    private Set<String> hotSymbols;
+    private long highestTrackableNanos;
+    private Recorder[] recorders;
+    private Histogram[] cumulative;
+    private long startedAtMillis;
+    private long lastRotatedAtMillis;
+    private volatile Snapshot lastInterval;
+    private ScheduledExecutorService snapshotScheduler;
+
+    @PostConstruct
+    public void init() {
+        CacheProperties.LatencyProperties properties = cacheProperties.getLatency();
+        enabled = properties.isEnabled();
+        hotSymbols = new HashSet<>(properties.getHotSymbols());
+        highestTrackableNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxTrackableMs());
+
+        int cells = STRATEGIES * CLASSES * STAGES;
+        recorders = new Recorder[cells];
+        cumulative = new Histogram[cells];
+        for (int i = 0; i < cells; i++) {
+            recorders[i] = new Recorder(LOWEST_DISCERNIBLE_NANOS, highestTrackableNanos, SIGNIFICANT_DIGITS);
+            cumulative[i] = newHistogram();
+        }
+        startedAtMillis = System.currentTimeMillis();
+        lastRotatedAtMillis = startedAtMillis;
+        lastInterval = new Snapshot(startedAtMillis, startedAtMillis, emptyHistograms());
+
+        long interval = properties.getSnapshotIntervalSeconds();
+        if (enabled && interval > 0) {
+            snapshotScheduler = Executors.newSingleThreadScheduledExecutor();
+            snapshotScheduler.scheduleAtFixedRate(this::rotateSafely, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+        }
+    }
+
+    /**
+     * @param startNanos 구간 시작 직전의 System.nanoTime()
+     */
+    public void record(ReadStrategy strategy, String symbol, LatencyStage stage, long startNanos) {
+        if (!enabled) {
+            return;
+        }
+        long elapsed = Math.min(Math.max(System.nanoTime() - startNanos, 0), highestTrackableNanos);
+        recorders[index(strategy, classify(symbol), stage)].recordValue(elapsed);
+    }
+
+    public SymbolClass classify(String symbol) {
+        return hotSymbols.contains(symbol) ? SymbolClass.HOT : SymbolClass.COLD;
+    }
+
+    /**
+     * 지금까지 쌓인 구간 히스토그램을 떼어 내 직전 구간 스냅샷으로 교체하고 누적본에 더함
+     */
+    public synchronized void rotate() {
+        Histogram[] interval = new Histogram[recorders.length];
+        for (int i = 0; i < recorders.length; i++) {
+            interval[i] = recorders[i].getIntervalHistogram();
+            cumulative[i].add(interval[i]);
+        }
+        long now = System.currentTimeMillis();
+        lastInterval = new Snapshot(lastRotatedAtMillis, now, interval);
+        lastRotatedAtMillis = now;
+    }
+
+    /**
+     * 마지막으로 떼어 낸 구간 (다음 rotate 전까지 같은 인스턴스)
+     */
+    public Snapshot intervalSnapshot() {
+        return lastInterval;
+    }
+
+    /**
+     * 기동 후 마지막 rotate까지 누적 (복사본)
+     */
+    public synchronized Snapshot cumulativeSnapshot() {
+        Histogram[] copies = new Histogram[cumulative.length];
+        for (int i = 0; i < cumulative.length; i++) {
+            copies[i] = cumulative[i].copy();
+        }
+        return new Snapshot(startedAtMillis, lastRotatedAtMillis, copies);
+    }
+
+    private void rotateSafely() {
+        try {
+            rotate();
+        } catch (RuntimeException e) {
+            log.warn("[지연 스냅샷 실패] {}", e.getMessage());
+        }
+    }
+
+    private Histogram newHistogram() {
+        return new Histogram(LOWEST_DISCERNIBLE_NANOS, highestTrackableNanos, SIGNIFICANT_DIGITS);
+    }
+
+    private Histogram[] emptyHistograms() {
+        Histogram[] histograms = new Histogram[recorders.length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = newHistogram();
+        }
+        return histograms;
+    }
+
+    private static int index(ReadStrategy strategy, SymbolClass symbolClass, LatencyStage stage) {
+        return (strategy.ordinal() * CLASSES + symbolClass.ordinal()) * STAGES + stage.ordinal();
+    }
+
+    /**
+     * 한 시점의 전략 x 심볼 구분 x 구간 히스토그램 (값 단위 ns)
+     */
+    public record Snapshot(long fromMillis, long toMillis, Histogram[] histograms) {
+
+        public Histogram histogram(ReadStrategy strategy, SymbolClass symbolClass, LatencyStage stage) {
+            return histograms[index(strategy, symbolClass, stage)];
+        }
+    }
+}
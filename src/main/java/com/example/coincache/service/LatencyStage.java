@@ -0,0 +1,48 @@
+package com.example.coincache.service;
+
+/**
+ * 단건 조회를 나눠 보는 구간 (지연 히스토그램 stage)
+ */
+public enum LatencyStage {
+
+    /**
+     * L1을 지나 Redis까지 간 읽기 왕복 (값 디코딩 제외)
+     */
+    REDIS_READ("redis-read"),
+
+    /**
+     * Redis에서 받은 바이트를 시세로 디코딩
+     */
+    DESERIALIZE("deserialize"),
+
+    /**
+     * 원천 조회 권한을 얻기까지 - 분산 락은 SET NX부터 락 획득 또는 보유자의 적재 신호까지,
+     * SingleFlight는 진행 중인 조회에 합류해 결과를 받기까지
+     */
+    LOCK_ACQUIRE("lock-acquire"),
+
+    /**
+     * 원천 조회 (배치 로더 대기 포함)
+     */
+    ORIGIN_FETCH("origin-fetch"),
+
+    /**
+     * Redis/L1 적재 (락 해제와 적재 알림을 묶은 스크립트 포함)
+     */
+    CACHE_WRITE("cache-write"),
+
+    /**
+     * 심볼 확인부터 반환까지 전체
+     */
+    TOTAL("total");
+
+    private final String tag;
+
+    LatencyStage(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.NearCache;
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.config.CacheProperties;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.List;
+
+/**
+ * Redis 서버 지원 무효화로 L1을 Redis와 맞춤 (CLIENT TRACKING, RESP3)
+ *
+ * - 전용 연결 하나에 CLIENT TRACKING on BCAST PREFIX quotes: 를 걸어 두면
+ *   어느 노드의 SET/DEL/만료든 quotes:* 키가 바뀔 때마다 invalidate 푸시가 옴
+ * - BCAST라 키를 읽은 연결과 추적 연결이 달라도 됨 (풀 연결/리액티브 연결 모두 그대로 사용)
+ * - 연결이 끊기면 그 사이 무효화를 놓칠 수 있으므로 L1을 비우고 TTL 기반으로 돌아갔다가,
+ *   재연결 후 추적을 다시 걸면 추적 모드로 복귀
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NearCacheInvalidationListener {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final RedisConnectionFactory connectionFactory;
+    private final NearCache nearCache;
+    private final CacheProperties cacheProperties;
+
+    private final PushListener pushListener = this::onPush;
+    private final RedisConnectionStateListener stateListener = new TrackingConnectionStateListener();
+
+    private volatile StatefulRedisConnection<String, String> connection;
+    /**
+     * 상태 리스너를 건 공유 RedisClient (연결 팩토리와 같이 쓰므로 종료 시 리스너만 떼어 냄)
+     */
+    private volatile RedisClient trackedClient;
+
+    @PostConstruct
+    public void start() {
+        if (!nearCache.isEnabled() || !cacheProperties.getNearCache().isTracking()) {
+            return;
+        }
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+                || !(lettuce.getNativeClient() instanceof RedisClient client)) {
+            log.warn("[L1 무효화 추적 불가] Lettuce 단독/센티널 연결이 아님 - TTL 기반으로 동작");
+            return;
+        }
+
+        try {
+            trackedClient = client;
+            client.addListener(stateListener);
+            connection = client.connect(StringCodec.UTF8);
+            connection.addListener(pushListener);
+            connection.sync().clientTracking(trackingArgs());
+            nearCache.setInvalidationTracked(true);
+            log.info("[L1 무효화 추적 시작] prefix={}", QuoteCacheKeys.CACHE_KEY_PREFIX);
+        } catch (RuntimeException e) {
+            // RESP2로만 붙는 서버/설정이면 CLIENT TRACKING이 거절됨
+            log.warn("[L1 무효화 추적 실패] TTL 기반으로 동작 - {}", e.getMessage());
+            stop();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        nearCache.setInvalidationTracked(false);
+        RedisClient client = trackedClient;
+        trackedClient = null;
+        if (client != null) {
+            client.removeListener(stateListener);
+        }
+        StatefulRedisConnection<String, String> current = connection;
+        connection = null;
+        if (current != null) {
+            current.removeListener(pushListener);
+            current.closeAsync();
+        }
+    }
+
+    private void onPush(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            // 키 목록이 null이면 FLUSHALL/FLUSHDB
+            nearCache.clear();
+            return;
+        }
+        for (Object key : keys) {
+            nearCache.invalidate((String) key);
+        }
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled()
+                .bcast()
+                .prefixes(QuoteCacheKeys.CACHE_KEY_PREFIX);
+    }
+
+    /**
+     * 추적 상태는 연결에 묶여 있어 재연결 시 사라지므로 다시 걸어야 함
+     * (이벤트 루프 스레드에서 호출되므로 동기 명령 대신 async 사용)
+     */
+    private class TrackingConnectionStateListener implements RedisConnectionStateListener {
+
+        @Override
+        public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+            StatefulRedisConnection<String, String> current = connection;
+            if (current == null || handler != current) {
+                return;
+            }
+            current.async().clientTracking(trackingArgs()).whenComplete((reply, error) -> {
+                if (error != null) {
+                    log.warn("[L1 무효화 추적 재등록 실패] TTL 기반으로 동작 - {}", error.getMessage());
+                    return;
+                }
+                nearCache.setInvalidationTracked(true);
+                log.info("[L1 무효화 추적 재등록]");
+            });
+        }
+
+        @Override
+        public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+            if (handler == connection) {
+                log.warn("[L1 무효화 추적 끊김] 재연결 전까지 TTL 기반으로 동작");
+                nearCache.setInvalidationTracked(false);
+            }
+        }
+    }
+}
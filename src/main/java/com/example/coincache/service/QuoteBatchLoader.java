@@ -0,0 +1,178 @@
+package com.example.coincache.service;
+
+import com.example.coincache.config.CacheProperties;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.repository.CoinQuoteRepository;
+import com.example.coincache.repository.OriginException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서로 다른 심볼의 캐시 미스를 짧은 윈도우 동안 모아서 원천 벌크 조회 1회로 보내는 로더 (DataLoader 방식)
+ *
+ * - SingleFlight는 같은 키만 합치지만, 애벌랜치 때는 서로 다른 키 수백 개가 동시에 미스남
+ * - maxWaitMs가 지나거나 maxBatchSize가 차면 그때까지 모인 키를 한 번에 전송
+ * - 같은 윈도우 안의 같은 키 요청은 하나의 결과를 공유
+ * - 호출자별 대기는 loadTimeoutMs까지만 (원천이 끝내 응답하지 않아도 스레드가 묶이지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuoteBatchLoader {
+
+    private final CoinQuoteRepository repository;
+    private final CacheProperties cacheProperties;
+    private final Environment environment;
+
+    private final Object lock = new Object();
+    private Batch current;
+
+    private ScheduledExecutorService windowScheduler;
+    private ExecutorService dispatchExecutor;
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        windowScheduler = Executors.newSingleThreadScheduledExecutor();
+        dispatchExecutor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(cacheProperties.getBatchLoader().getDispatchThreads());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (windowScheduler != null) {
+            windowScheduler.shutdown();
+        }
+        if (dispatchExecutor != null) {
+            dispatchExecutor.shutdown();
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties.getBatchLoader().isEnabled();
+    }
+
+    /**
+     * 원천 조회 결과를 기다려서 반환 (원천 예외는 그대로 전파, 대기 시간 초과는 OriginException(TIMEOUT))
+     * 배치 로더가 꺼져 있으면 바로 단건 원천 조회
+     */
+    public Optional<CoinQuote> load(String symbol) {
+        if (!isEnabled()) {
+            return repository.findBySymbol(symbol);
+        }
+        try {
+            return loadAsync(symbol).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public CompletableFuture<Optional<CoinQuote>> loadAsync(String symbol) {
+        if (!isEnabled()) {
+            return CompletableFuture.completedFuture(repository.findBySymbol(symbol));
+        }
+        CacheProperties.BatchLoaderProperties properties = cacheProperties.getBatchLoader();
+        CompletableFuture<Optional<CoinQuote>> future;
+        Batch full = null;
+
+        synchronized (lock) {
+            if (current == null) {
+                Batch batch = new Batch();
+                // 예약이 거절되면(종료 중) 아무도 등록하지 않은 채 호출자에게 예외 전파
+                windowScheduler.schedule(() -> dispatchOnTimeout(batch),
+                        properties.getMaxWaitMs(), TimeUnit.MILLISECONDS);
+                current = batch;
+            }
+            future = current.waiters.computeIfAbsent(symbol, key -> new CompletableFuture<>());
+            if (current.waiters.size() >= properties.getMaxBatchSize()) {
+                full = current;
+                current = null;
+            }
+        }
+
+        if (full != null) {
+            dispatch(full);
+        }
+
+        // 공유 Future라 호출자별 타임아웃/취소가 같은 배치의 다른 대기자에게 번지지 않도록 복사본에 걸음
+        CompletableFuture<Optional<CoinQuote>> result = future.copy();
+        long timeoutMs = properties.getLoadTimeoutMs();
+        if (timeoutMs <= 0) {
+            return result;
+        }
+        return result
+                .orTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(e instanceof TimeoutException
+                        ? new OriginException(OriginException.Type.TIMEOUT,
+                                "batch load timed out after " + timeoutMs + "ms: " + symbol)
+                        : e));
+    }
+
+    private void dispatchOnTimeout(Batch batch) {
+        synchronized (lock) {
+            if (current != batch) {
+                // 크기 초과로 이미 전송된 배치
+                return;
+            }
+            current = null;
+        }
+        dispatch(batch);
+    }
+
+    /**
+     * 원천 오류(Error 포함)나 전송 거절(종료 중)에도 대기자 Future를 모두 끝냄
+     */
+    private void dispatch(Batch batch) {
+        Map<String, CompletableFuture<Optional<CoinQuote>>> waiters = batch.waiters;
+        try {
+            dispatchExecutor.execute(() -> {
+                try {
+                    log.debug("[배치 로더] 원천 일괄 조회 - {}건", waiters.size());
+                    Map<String, CoinQuote> found = waiters.size() == 1
+                            ? findOne(waiters.keySet().iterator().next())
+                            : repository.findBySymbols(waiters.keySet());
+                    waiters.forEach((symbol, waiter) -> waiter.complete(Optional.ofNullable(found.get(symbol))));
+                } catch (Throwable e) {
+                    log.warn("[배치 로더] 원천 일괄 조회 실패 - {}건", waiters.size(), e);
+                    waiters.values().forEach(waiter -> waiter.completeExceptionally(e));
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("[배치 로더] 전송 거절 - {}건", waiters.size());
+            waiters.values().forEach(waiter -> waiter.completeExceptionally(e));
+        }
+    }
+
+    private Map<String, CoinQuote> findOne(String symbol) {
+        Map<String, CoinQuote> found = new LinkedHashMap<>();
+        repository.findBySymbol(symbol).ifPresent(quote -> found.put(symbol, quote));
+        return found;
+    }
+
+    private static final class Batch {
+        private final Map<String, CompletableFuture<Optional<CoinQuote>>> waiters = new LinkedHashMap<>();
+    }
+}
@@ -1,30 +1,56 @@
 package com.example.coincache.service;
 
 import com.example.coincache.cache.CacheValue;
+import com.example.coincache.cache.LogicalCacheEntries;
+import com.example.coincache.cache.NearCache;
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.cache.QuoteCacheScripts;
 import com.example.coincache.config.CacheProperties;
 import com.example.coincache.domain.CoinQuote;
 import com.example.coincache.repository.CoinQuoteRepository;
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceRecorder;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import static com.example.coincache.cache.QuoteCacheKeys.NULL_MARKER;
+
 /**
  * 코인 시세 캐시 서비스
  *
@@ -32,38 +58,52 @@ import java.util.function.Predicate;
  * 1. Cache-Aside (Lazy Loading)
  * 2. 캐시 스탬피드 방지 (분산 락, SingleFlight, Logical Expire)
  * 3. 캐시 애벌랜치 방지 (TTL Jitter)
- * 4. 캐시 관통 방지 (Null Cache + 화이트리스트)
+ * 4. 캐시 관통 방지 (Null Cache + 심볼 Bloom Filter)
+ * 5. 로컬 L1(near cache) - Redis 남은 TTL 안에서만 보관
+ * 6. 다건 조회 (MGET + 키별 락 + 파이프라인 저장)
+ * 7. 미스 합치기 - 서로 다른 키의 동시 미스를 배치 로더로 묶어 원천 벌크 조회
+ *
+ * 경로별 결과(히트/Null 히트/미스/락/대기/stale 등)와 Redis/원천 지연은 CacheMetrics로 집계
+ * (다건 조회는 분산 락 경로라 LOCK 전략으로 기록)
+ * 단건 조회는 구간별(Redis 읽기/디코딩/락/원천/적재/전체) 지연을 LatencyRecorder 히스토그램에도 기록
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class QuoteCacheService {
 
-    private static final String CACHE_KEY_PREFIX = "quotes:";
-    private static final String LOCK_KEY_PREFIX = "lock:quotes:";
-    private static final String LOGICAL_CACHE_KEY_PREFIX = "quotes:logical:";
-    private static final String LOGICAL_LOCK_KEY_PREFIX = "lock:quotes:logical:";
-    private static final String NULL_MARKER = "__NULL__";
-
-    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
-            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
-                    "return redis.call('del', KEYS[1]) else return 0 end",
-            Long.class
-    );
+    private static final byte[] LOADED_PAYLOAD = CacheLoadNotifier.PAYLOAD.getBytes(StandardCharsets.UTF_8);
 
     private final RedisTemplate<String, Object> redisTemplate;
     private final StringRedisTemplate stringRedisTemplate;
     private final CoinQuoteRepository repository;
     private final CacheProperties cacheProperties;
+    private final NearCache nearCache;
+    private final QuoteBatchLoader batchLoader;
+    private final CacheLoadNotifier loadNotifier;
+    private final SymbolFilter symbolFilter;
+    private final CacheMetrics metrics;
+    private final LatencyRecorder latency;
+    private final AccessTraceRecorder traceRecorder;
+    private final Environment environment;
 
     private final ConcurrentHashMap<String, CompletableFuture<Optional<CoinQuote>>> inFlightRequests =
             new ConcurrentHashMap<>();
 
+    private final String refreshTokenPrefix = UUID.randomUUID() + ":";
+    private final AtomicLong refreshTokenSequence = new AtomicLong();
+
     private ExecutorService refreshExecutor;
 
+    /**
+     * spring.threads.virtual.enabled=true면 논리 만료 갱신도 가상 스레드에서 실행
+     * (요청 스레드와 같은 모드로 맞춰 락 대기/SingleFlight 대기가 캐리어 스레드를 잡지 않게 함)
+     */
     @PostConstruct
     public void init() {
-        refreshExecutor = Executors.newFixedThreadPool(cacheProperties.getRefreshThreads());
+        refreshExecutor = Threading.VIRTUAL.isActive(environment)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(cacheProperties.getRefreshThreads());
     }
 
     @PreDestroy
@@ -77,54 +117,133 @@ public class QuoteCacheService {
      * 시세 조회 (Cache-Aside + 분산 락)
      */
     public Optional<CoinQuote> getQuote(String symbol) {
-        return getQuoteWithSymbolCheck(symbol, repository::existsSymbol, this::getQuoteInternal);
+        return getQuoteWithSymbolCheck(ReadStrategy.LOCK, symbol, this::getQuoteInternal);
     }
 
     /**
      * 화이트리스트/필터를 주입하는 조회 (테스트/전략 실험용)
      */
     public Optional<CoinQuote> getQuoteWithSymbolFilter(String symbol, Predicate<String> symbolFilter) {
-        return getQuoteWithSymbolCheck(symbol, symbolFilter, this::getQuoteInternal);
+        return getQuoteWithSymbolCheck(ReadStrategy.LOCK, symbol, symbolFilter, false, this::getQuoteInternal);
     }
 
     /**
      * 분산 락 기반 조회 (Cache Stampede 방지)
      */
     public Optional<CoinQuote> getQuoteWithDistributedLock(String symbol) {
-        return getQuoteWithSymbolCheck(symbol, repository::existsSymbol, this::getQuoteInternal);
+        return getQuoteWithSymbolCheck(ReadStrategy.LOCK, symbol, this::getQuoteInternal);
     }
 
     /**
      * SingleFlight 기반 조회 (동일 인스턴스 내 요청 합치기)
      */
     public Optional<CoinQuote> getQuoteWithSingleFlight(String symbol) {
-        return getQuoteWithSymbolCheck(symbol, repository::existsSymbol, this::getQuoteWithSingleFlightInternal);
+        return getQuoteWithSymbolCheck(ReadStrategy.SINGLE_FLIGHT, symbol, this::getQuoteWithSingleFlightInternal);
     }
 
     /**
      * Logical Expire + Stale-While-Revalidate 조회
      */
     public Optional<CoinQuote> getQuoteWithLogicalExpire(String symbol) {
-        return getQuoteWithSymbolCheck(symbol, repository::existsSymbol, this::getQuoteWithLogicalExpireInternal);
+        return getQuoteWithSymbolCheck(ReadStrategy.LOGICAL_EXPIRE, symbol, this::getQuoteWithLogicalExpireInternal);
+    }
+
+    /**
+     * 다건 조회 (시세 테이블용)
+     * MGET 1회로 캐시를 읽고, 미스 키는 키별 락을 파이프라인으로 잡아 한 번에 원천 조회
+     *
+     * @return 조회된 시세만 요청 순서대로 담은 맵 (차단/미존재 심볼은 제외)
+     */
+    public Map<String, CoinQuote> getQuotes(Collection<String> symbols) {
+        Map<String, Optional<CoinQuote>> resolved = new HashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String symbol : new LinkedHashSet<>(symbols)) {
+            traceRecorder.record(AccessTraceEvent.Type.READ, symbol);
+            if (!symbolFilter.mightContain(symbol)) {
+                log.debug("[심볼 차단] 존재하지 않는 심볼: {}", symbol);
+                continue;
+            }
+            Object local = nearCache.get(getCacheKey(symbol));
+            if (local != null) {
+                resolved.put(symbol, toQuote(local));
+                recordHit(ReadStrategy.LOCK, local);
+            } else {
+                pending.add(symbol);
+            }
+        }
+
+        List<String> misses = multiReadCache(pending, resolved);
+        for (String symbol : pending) {
+            Optional<CoinQuote> quote = resolved.get(symbol);
+            metrics.record(ReadStrategy.LOCK, quote == null ? CacheOutcome.MISS
+                    : quote.isPresent() ? CacheOutcome.HIT : CacheOutcome.NULL_HIT);
+        }
+        if (!misses.isEmpty()) {
+            log.debug("[다건 캐시 미스] {}건", misses.size());
+            loadAllWithLock(misses, resolved);
+        }
+
+        Map<String, CoinQuote> quotes = new LinkedHashMap<>();
+        for (String symbol : symbols) {
+            Optional<CoinQuote> quote = resolved.get(symbol);
+            if (quote != null && quote.isPresent()) {
+                quotes.put(symbol, quote.get());
+            }
+        }
+        resolved.forEach((symbol, quote) -> {
+            if (quote.isEmpty()) {
+                symbolFilter.recordPassedEmpty();
+            }
+        });
+        return quotes;
     }
 
+    /**
+     * 차단된 심볼은 전체 지연에 넣지 않음 (COLD 분포가 필터 확인 시간으로 희석되지 않게)
+     * 트레이스에는 차단 여부와 관계없이 요청 그대로 남김 (재생 시 필터 효과까지 재현)
+     * 통과 후 빈 결과(원천 빈 결과 또는 Null 캐시)는 차단과 같은 요청 단위로 오탐 통계에 반영
+     */
     private Optional<CoinQuote> getQuoteWithSymbolCheck(
+            ReadStrategy strategy,
             String symbol,
-            Predicate<String> symbolFilter,
             Function<String, Optional<CoinQuote>> loader
     ) {
-        if (!symbolFilter.test(symbol)) {
+        return getQuoteWithSymbolCheck(strategy, symbol, symbolFilter::mightContain, true, loader);
+    }
+
+    /**
+     * @param managedFilter 운영 심볼 필터로 확인했는지 (주입된 필터는 오탐 통계에 넣지 않음)
+     */
+    private Optional<CoinQuote> getQuoteWithSymbolCheck(
+            ReadStrategy strategy,
+            String symbol,
+            Predicate<String> filter,
+            boolean managedFilter,
+            Function<String, Optional<CoinQuote>> loader
+    ) {
+        long start = System.nanoTime();
+        traceRecorder.record(AccessTraceEvent.Type.READ, symbol);
+        if (!filter.test(symbol)) {
             log.debug("[심볼 차단] 존재하지 않는 심볼: {}", symbol);
             return Optional.empty();
         }
-        return loader.apply(symbol);
+        try {
+            Optional<CoinQuote> quote = loader.apply(symbol);
+            if (managedFilter && quote.isEmpty()) {
+                symbolFilter.recordPassedEmpty();
+            }
+            return quote;
+        } finally {
+            latency.record(strategy, symbol, LatencyStage.TOTAL, start);
+        }
     }
 
     private Optional<CoinQuote> getQuoteInternal(String symbol) {
         String cacheKey = getCacheKey(symbol);
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
+        Object cached = readCache(ReadStrategy.LOCK, symbol, cacheKey);
         if (cached != null) {
+            recordHit(ReadStrategy.LOCK, cached);
             if (NULL_MARKER.equals(cached)) {
                 log.debug("[Null 캐시 히트] symbol={}", symbol);
                 return Optional.empty();
@@ -134,25 +253,28 @@ public class QuoteCacheService {
         }
 
         log.debug("[캐시 미스] symbol={}", symbol);
+        metrics.record(ReadStrategy.LOCK, CacheOutcome.MISS);
         return loadWithLock(symbol, cacheKey);
     }
 
     private Optional<CoinQuote> getQuoteWithSingleFlightInternal(String symbol) {
         String cacheKey = getCacheKey(symbol);
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
+        Object cached = readCache(ReadStrategy.SINGLE_FLIGHT, symbol, cacheKey);
         if (cached != null) {
+            recordHit(ReadStrategy.SINGLE_FLIGHT, cached);
             if (NULL_MARKER.equals(cached)) {
                 return Optional.empty();
             }
             return Optional.of((CoinQuote) cached);
         }
 
+        metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.MISS);
         CompletableFuture<Optional<CoinQuote>> future = new CompletableFuture<>();
         CompletableFuture<Optional<CoinQuote>> existing = inFlightRequests.putIfAbsent(cacheKey, future);
         if (existing == null) {
             try {
-                Optional<CoinQuote> quote = loadFromRepositoryAndCache(symbol, cacheKey);
+                Optional<CoinQuote> quote = loadFromRepositoryAndCache(ReadStrategy.SINGLE_FLIGHT, symbol, cacheKey);
                 future.complete(quote);
                 return quote;
             } catch (Exception e) {
@@ -163,29 +285,59 @@ public class QuoteCacheService {
             }
         }
 
+        metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.SINGLEFLIGHT_JOINED);
+        long joinStart = System.nanoTime();
         try {
             return existing.get(cacheProperties.getSingleFlightWaitMs(), TimeUnit.MILLISECONDS);
         } catch (Exception e) {
             log.warn("[SingleFlight 대기 실패] 직접 원천 조회 - symbol={}", symbol);
-            return loadFromRepositoryAndCache(symbol, cacheKey);
+            metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.RETRY_FALLBACK);
+            return loadFromRepositoryAndCache(ReadStrategy.SINGLE_FLIGHT, symbol, cacheKey);
+        } finally {
+            latency.record(ReadStrategy.SINGLE_FLIGHT, symbol, LatencyStage.LOCK_ACQUIRE, joinStart);
         }
     }
 
+    /**
+     * 읽기, stale 판정, 갱신 락 시도를 스크립트 1회(1 RTT)로 처리
+     * L1에는 논리 만료 전까지만 올라가므로 L1 히트는 항상 fresh
+     */
     private Optional<CoinQuote> getQuoteWithLogicalExpireInternal(String symbol) {
         String cacheKey = getLogicalCacheKey(symbol);
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
-        if (cached == null) {
-            return loadFromRepositoryAndLogicalCache(symbol, cacheKey);
+        Object local = nearCache.get(cacheKey);
+        if (local instanceof CacheValue<?> cacheValue) {
+            recordLogicalHit(cacheValue);
+            return Optional.ofNullable((CoinQuote) cacheValue.getValue());
         }
 
-        CacheValue<CoinQuote> cacheValue = (CacheValue<CoinQuote>) cached;
-        if (!cacheValue.isExpired()) {
-            return Optional.ofNullable(cacheValue.getValue());
+        long stamp = nearCache.readStamp(cacheKey);
+        String lockKey = getLogicalLockKey(symbol);
+        String token = nextRefreshToken();
+        long redisStart = System.nanoTime();
+        List<?> reply = executeScript(QuoteCacheScripts.READ_LOGICAL, List.of(cacheKey, lockKey),
+                LogicalCacheEntries.readArgs(System.currentTimeMillis(), token, cacheProperties.getLockTimeoutMs()));
+        recordRedisRead(ReadStrategy.LOGICAL_EXPIRE, symbol, redisStart);
+        long decodeStart = System.nanoTime();
+        LogicalCacheEntries.Read read = LogicalCacheEntries.parse(reply, valueSerializer());
+        latency.record(ReadStrategy.LOGICAL_EXPIRE, symbol, LatencyStage.DESERIALIZE, decodeStart);
+        if (read == null) {
+            metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.MISS);
+            return loadFromRepositoryAndLogicalCache(symbol, cacheKey);
         }
 
-        triggerAsyncRefresh(symbol, cacheKey);
-        return Optional.ofNullable(cacheValue.getValue());
+        if (read.stale()) {
+            metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.STALE_SERVED);
+        } else {
+            recordLogicalHit(read.cacheValue());
+        }
+        if (read.refreshLockAcquired()) {
+            metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.REFRESH_TRIGGERED);
+            submitRefresh(symbol, cacheKey, lockKey, token);
+        } else if (!read.stale()) {
+            nearCache.put(cacheKey, read.cacheValue(), read.redisTtlMs(), stamp);
+        }
+        return Optional.ofNullable(read.cacheValue().getValue());
     }
 
     /**
@@ -195,82 +347,352 @@ public class QuoteCacheService {
         String lockKey = getLockKey(symbol);
         String token = UUID.randomUUID().toString();
 
+        long lockStart = System.nanoTime();
         Boolean acquired = stringRedisTemplate.opsForValue()
                 .setIfAbsent(lockKey, token, Duration.ofMillis(cacheProperties.getLockTimeoutMs()));
 
         if (Boolean.TRUE.equals(acquired)) {
+            latency.record(ReadStrategy.LOCK, symbol, LatencyStage.LOCK_ACQUIRE, lockStart);
+            metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_ACQUIRED);
+            Optional<CoinQuote> quote;
             try {
                 log.debug("[락 획득] 원천 조회 시작 - symbol={}", symbol);
-                return loadFromRepositoryAndCache(symbol, cacheKey);
-            } finally {
+                quote = loadFromOrigin(ReadStrategy.LOCK, symbol);
+            } catch (RuntimeException e) {
+                // 저장할 값이 없으므로 락만 풀고 대기자를 깨워 락부터 다시 시도하게 함
                 releaseLock(lockKey, token);
-                log.debug("[락 해제] symbol={}", symbol);
+                loadNotifier.publish(symbol);
+                throw e;
             }
+            long writeStart = System.nanoTime();
+            saveToCacheAndReleaseLock(symbol, cacheKey, quote, token);
+            latency.record(ReadStrategy.LOCK, symbol, LatencyStage.CACHE_WRITE, writeStart);
+            log.debug("[락 해제] symbol={}", symbol);
+            return quote;
         }
 
         log.debug("[락 대기] 다른 요청이 갱신 중 - symbol={}", symbol);
-        return waitAndRetry(symbol, cacheKey);
+        metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_WAITED);
+        return waitAndRetry(symbol, cacheKey, lockStart);
     }
 
-    private Optional<CoinQuote> waitAndRetry(String symbol, String cacheKey) {
-        try {
-            Thread.sleep(cacheProperties.getLockTimeoutMs() / 2);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+    /**
+     * 락 보유자의 적재 완료 신호를 기다렸다가 캐시를 다시 읽음
+     * 신호 없이 락 TTL이 지나면(보유자 장애 등) 원천으로 바로 가지 않고 락부터 다시 시도
+     *
+     * @param lockStart 락 시도 직전의 nanoTime (SET NX부터 대기 끝까지를 락 구간으로 기록)
+     */
+    private Optional<CoinQuote> waitAndRetry(String symbol, String cacheKey, long lockStart) {
+        CompletableFuture<Void> loaded = loadNotifier.register(symbol);
 
-        Object cached = redisTemplate.opsForValue().get(cacheKey);
+        // 등록 직전에 적재가 끝났을 수 있으므로 한 번 더 확인
+        Object cached = readCache(ReadStrategy.LOCK, symbol, cacheKey);
+        if (cached == null) {
+            loadNotifier.await(symbol, loaded, cacheProperties.getLockTimeoutMs());
+            cached = readCache(ReadStrategy.LOCK, symbol, cacheKey);
+        }
+        latency.record(ReadStrategy.LOCK, symbol, LatencyStage.LOCK_ACQUIRE, lockStart);
         if (cached != null) {
-            if (NULL_MARKER.equals(cached)) {
-                return Optional.empty();
-            }
             log.debug("[재시도 캐시 히트] symbol={}", symbol);
-            return Optional.of((CoinQuote) cached);
+            return toQuote(cached);
+        }
+
+        metrics.record(ReadStrategy.LOCK, CacheOutcome.RETRY_FALLBACK);
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("[대기 중단] 직접 원천 조회 - symbol={}", symbol);
+            return loadFromRepositoryAndCache(ReadStrategy.LOCK, symbol, cacheKey);
+        }
+        log.debug("[재시도 미스] 락 재획득 시도 - symbol={}", symbol);
+        return loadWithLock(symbol, cacheKey);
+    }
+
+    /**
+     * MGET 1회로 여러 키를 읽어 resolved에 채우고, 미스 심볼 목록을 반환
+     * L1이 켜져 있으면 같은 파이프라인에 PTTL을 붙여 L1 TTL 상한도 함께 받아옴
+     */
+    private List<String> multiReadCache(List<String> symbols, Map<String, Optional<CoinQuote>> resolved) {
+        if (symbols.isEmpty()) {
+            return List.of();
+        }
+        List<String> cacheKeys = symbols.stream().map(this::getCacheKey).toList();
+        byte[][] rawKeys = cacheKeys.stream().map(this::rawKey).toArray(byte[][]::new);
+        boolean withTtl = nearCache.isEnabled();
+        long[] stamps = cacheKeys.stream().mapToLong(nearCache::readStamp).toArray();
+
+        long redisStart = System.nanoTime();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(rawKeys);
+            if (withTtl) {
+                for (byte[] rawKey : rawKeys) {
+                    connection.keyCommands().pTtl(rawKey);
+                }
+            }
+            return null;
+        });
+        metrics.recordRedis(redisStart);
+
+        List<?> values = (List<?>) results.get(0);
+        List<String> misses = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            Object cached = values.get(i);
+            if (cached == null) {
+                misses.add(symbols.get(i));
+                continue;
+            }
+            if (withTtl && results.get(i + 1) instanceof Long redisTtlMs) {
+                nearCache.put(cacheKeys.get(i), cached, redisTtlMs, stamps[i]);
+            }
+            resolved.put(symbols.get(i), toQuote(cached));
+        }
+        return misses;
+    }
+
+    /**
+     * 키별 분산 락을 파이프라인으로 한 번에 잡고, 획득한 키만 묶어서 원천 조회
+     * 락을 못 잡은 키는 단건 경로(waitAndRetry)와 같은 방식으로 적재 신호를 기다린 뒤 재조회
+     */
+    private void loadAllWithLock(List<String> symbols, Map<String, Optional<CoinQuote>> resolved) {
+        String token = UUID.randomUUID().toString();
+        byte[] rawToken = token.getBytes(StandardCharsets.UTF_8);
+        Expiration lockTtl = Expiration.milliseconds(cacheProperties.getLockTimeoutMs());
+
+        List<Object> lockResults = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String symbol : symbols) {
+                connection.stringCommands().set(rawKey(getLockKey(symbol)), rawToken, lockTtl, SetOption.SET_IF_ABSENT);
+            }
+            return null;
+        });
+
+        List<String> acquired = new ArrayList<>();
+        List<String> waiting = new ArrayList<>();
+        for (int i = 0; i < symbols.size(); i++) {
+            if (Boolean.TRUE.equals(lockResults.get(i))) {
+                acquired.add(symbols.get(i));
+                metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_ACQUIRED);
+            } else {
+                waiting.add(symbols.get(i));
+                metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_WAITED);
+            }
+        }
+
+        if (!acquired.isEmpty()) {
+            log.debug("[락 획득] 원천 일괄 조회 시작 - {}건", acquired.size());
+            Map<String, Optional<CoinQuote>> loaded;
+            try {
+                loaded = loadAllFromRepository(acquired);
+            } catch (RuntimeException e) {
+                // 저장할 값이 없으므로 락만 풀고 대기자를 깨워 락부터 다시 시도하게 함 (단건 loadWithLock과 같음)
+                releaseLocksAndPublish(acquired, rawToken);
+                throw e;
+            }
+            resolved.putAll(loaded);
+            saveAllToCache(loaded, acquired, rawToken);
+            List<String> unloaded = acquired.stream().filter(symbol -> !loaded.containsKey(symbol)).toList();
+            if (!unloaded.isEmpty()) {
+                releaseLocksAndPublish(unloaded, rawToken);
+            }
+            log.debug("[락 해제] {}건", acquired.size());
+        }
+
+        if (!waiting.isEmpty()) {
+            log.debug("[락 대기] 다른 요청이 갱신 중 - {}건", waiting.size());
+            waitAndRetryAll(waiting, resolved);
+        }
+    }
+
+    /**
+     * 다건 경로의 waitAndRetry - 심볼별 적재 신호를 모두 등록한 뒤 남은 미스만 기다림
+     */
+    private void waitAndRetryAll(List<String> symbols, Map<String, Optional<CoinQuote>> resolved) {
+        Map<String, CompletableFuture<Void>> signals = new HashMap<>();
+        for (String symbol : symbols) {
+            signals.put(symbol, loadNotifier.register(symbol));
+        }
+
+        List<String> stillMissing = multiReadCache(symbols, resolved);
+        if (!stillMissing.isEmpty()) {
+            Map<String, CompletableFuture<Void>> pending = new HashMap<>();
+            for (String symbol : stillMissing) {
+                pending.put(symbol, signals.get(symbol));
+            }
+            loadNotifier.awaitAll(pending, cacheProperties.getLockTimeoutMs());
+            stillMissing = multiReadCache(stillMissing, resolved);
+        }
+        if (stillMissing.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < stillMissing.size(); i++) {
+            metrics.record(ReadStrategy.LOCK, CacheOutcome.RETRY_FALLBACK);
+        }
+        if (Thread.currentThread().isInterrupted()) {
+            log.warn("[대기 중단] 직접 원천 조회 - {}건", stillMissing.size());
+            Map<String, Optional<CoinQuote>> loaded = loadAllFromRepository(stillMissing);
+            resolved.putAll(loaded);
+            saveAllToCache(loaded, List.of(), null);
+            return;
+        }
+        log.debug("[재시도 미스] 락 재획득 시도 - {}건", stillMissing.size());
+        loadAllWithLock(stillMissing, resolved);
+    }
+
+    /**
+     * 미스가 2건 이상이면 벌크 조회로 원천 왕복을 1회로 줄임
+     */
+    private Map<String, Optional<CoinQuote>> loadAllFromRepository(List<String> symbols) {
+        Map<String, Optional<CoinQuote>> loaded = new LinkedHashMap<>();
+        if (symbols.size() == 1) {
+            String symbol = symbols.get(0);
+            loaded.put(symbol, loadFromOrigin(ReadStrategy.LOCK, symbol));
+            return loaded;
+        }
+
+        long originStart = System.nanoTime();
+        Map<String, CoinQuote> found = repository.findBySymbols(symbols);
+        metrics.recordOrigin(originStart);
+        for (String symbol : symbols) {
+            loaded.put(symbol, Optional.ofNullable(found.get(symbol)));
         }
+        return loaded;
+    }
+
+    /**
+     * 단건 원천 조회 (배치 로더 경유)
+     */
+    private Optional<CoinQuote> loadFromOrigin(ReadStrategy strategy, String symbol) {
+        long originStart = System.nanoTime();
+        Optional<CoinQuote> quote = batchLoader.load(symbol);
+        metrics.recordOrigin(originStart);
+        latency.record(strategy, symbol, LatencyStage.ORIGIN_FETCH, originStart);
+        return quote;
+    }
+
+    /**
+     * 값/Null 마커 저장을 하나의 파이프라인으로 전송
+     * 락을 잡은 심볼은 저장 + 락 해제 + 적재 알림을 스크립트 하나로 묶음
+     */
+    private void saveAllToCache(Map<String, Optional<CoinQuote>> loaded, List<String> lockedSymbols, byte[] rawToken) {
+        RedisSerializer<Object> valueSerializer = valueSerializer();
+        String saveAndReleaseSha = QuoteCacheScripts.SAVE_AND_RELEASE_LOCK.getSha1();
+        Set<String> locked = new HashSet<>(lockedSymbols);
+
+        Map<String, Object> values = new LinkedHashMap<>();
+        Map<String, Duration> ttls = new HashMap<>();
+        loaded.forEach((symbol, quote) -> {
+            values.put(symbol, quote.isPresent() ? quote.get() : NULL_MARKER);
+            ttls.put(symbol, cacheTtl(quote));
+        });
+
+        executePipelinedScript(QuoteCacheScripts.SAVE_AND_RELEASE_LOCK, connection -> {
+            values.forEach((symbol, value) -> {
+                byte[] rawValue = valueSerializer.serialize(value);
+                if (locked.contains(symbol)) {
+                    byte[][] args = saveAndReleaseArgs(symbol, rawValue, ttls.get(symbol), rawToken);
+                    byte[][] keysAndArgs = new byte[2 + args.length][];
+                    keysAndArgs[0] = rawKey(getCacheKey(symbol));
+                    keysAndArgs[1] = rawKey(getLockKey(symbol));
+                    System.arraycopy(args, 0, keysAndArgs, 2, args.length);
+                    connection.scriptingCommands().evalSha(saveAndReleaseSha, ReturnType.INTEGER, 2, keysAndArgs);
+                } else {
+                    connection.stringCommands().set(rawKey(getCacheKey(symbol)), rawValue,
+                            Expiration.from(ttls.get(symbol)), SetOption.upsert());
+                }
+            });
+            return null;
+        });
 
-        log.warn("[재시도 실패] 직접 원천 조회 - symbol={}", symbol);
-        return loadFromRepositoryAndCache(symbol, cacheKey);
+        values.forEach((symbol, value) -> nearCache.put(getCacheKey(symbol), value, ttls.get(symbol).toMillis()));
+        log.debug("[다건 캐시 저장] {}건", values.size());
     }
 
-    private Optional<CoinQuote> loadFromRepositoryAndCache(String symbol, String cacheKey) {
-        Optional<CoinQuote> quote = repository.findBySymbol(symbol);
+    /**
+     * 값 없이 토큰 확인 락 해제 + 적재 알림만 파이프라인으로 전송 (원천 조회 실패 시)
+     */
+    private void releaseLocksAndPublish(List<String> symbols, byte[] rawToken) {
+        String releaseSha = QuoteCacheScripts.RELEASE_LOCK.getSha1();
+        executePipelinedScript(QuoteCacheScripts.RELEASE_LOCK, connection -> {
+            for (String symbol : symbols) {
+                connection.scriptingCommands().evalSha(releaseSha, ReturnType.INTEGER, 1,
+                        rawKey(getLockKey(symbol)), rawToken);
+                connection.publish(rawKey(QuoteCacheKeys.loadedChannel(symbol)), LOADED_PAYLOAD);
+            }
+            return null;
+        });
+        log.debug("[락 해제] 적재 실패 {}건", symbols.size());
+    }
+
+    /**
+     * 값 저장과 락 해제를 스크립트 한 번으로 처리 (저장 후 해제 순서가 Redis 안에서 보장됨)
+     */
+    private void saveToCacheAndReleaseLock(String symbol, String cacheKey, Optional<CoinQuote> quote, String token) {
+        Object value = quote.isPresent() ? quote.get() : NULL_MARKER;
+        Duration ttl = cacheTtl(quote);
+        executeScript(QuoteCacheScripts.SAVE_AND_RELEASE_LOCK, List.of(cacheKey, getLockKey(symbol)),
+                saveAndReleaseArgs(symbol, valueSerializer().serialize(value), ttl,
+                        token.getBytes(StandardCharsets.UTF_8)));
+        nearCache.put(cacheKey, value, ttl.toMillis());
+        log.debug("[캐시 저장] key={}, ttl={}s", cacheKey, ttl.getSeconds());
+    }
+
+    private byte[][] saveAndReleaseArgs(String symbol, byte[] rawValue, Duration ttl, byte[] rawToken) {
+        return new byte[][]{
+                rawValue,
+                Long.toString(ttl.toMillis()).getBytes(StandardCharsets.US_ASCII),
+                rawToken,
+                rawKey(QuoteCacheKeys.loadedChannel(symbol)),
+                LOADED_PAYLOAD
+        };
+    }
+
+    private Duration cacheTtl(Optional<CoinQuote> quote) {
+        return quote.isPresent()
+                ? calculateTtlWithJitter()
+                : Duration.ofSeconds(cacheProperties.getNullCacheTtlSeconds());
+    }
+
+    private void recordHit(ReadStrategy strategy, Object cached) {
+        metrics.record(strategy, NULL_MARKER.equals(cached) ? CacheOutcome.NULL_HIT : CacheOutcome.HIT);
+    }
+
+    private void recordLogicalHit(CacheValue<?> cacheValue) {
+        metrics.record(ReadStrategy.LOGICAL_EXPIRE,
+                cacheValue.getValue() == null ? CacheOutcome.NULL_HIT : CacheOutcome.HIT);
+    }
+
+    private Optional<CoinQuote> toQuote(Object cached) {
+        if (NULL_MARKER.equals(cached)) {
+            return Optional.empty();
+        }
+        return Optional.of((CoinQuote) cached);
+    }
+
+    private Optional<CoinQuote> loadFromRepositoryAndCache(ReadStrategy strategy, String symbol, String cacheKey) {
+        Optional<CoinQuote> quote = loadFromOrigin(strategy, symbol);
+        long writeStart = System.nanoTime();
         if (quote.isPresent()) {
             saveToCache(cacheKey, quote.get());
         } else {
             saveNullCache(cacheKey);
         }
+        latency.record(strategy, symbol, LatencyStage.CACHE_WRITE, writeStart);
         return quote;
     }
 
     private Optional<CoinQuote> loadFromRepositoryAndLogicalCache(String symbol, String cacheKey) {
-        Optional<CoinQuote> quote = repository.findBySymbol(symbol);
-        if (quote.isPresent()) {
-            saveToLogicalCache(cacheKey, quote.get());
-        } else {
-            saveLogicalNullCache(cacheKey);
-        }
+        Optional<CoinQuote> quote = loadFromOrigin(ReadStrategy.LOGICAL_EXPIRE, symbol);
+        saveLoadedLogicalEntry(symbol, cacheKey, quote);
         return quote;
     }
 
-    private void triggerAsyncRefresh(String symbol, String cacheKey) {
-        String lockKey = getLogicalLockKey(symbol);
-        String token = UUID.randomUUID().toString();
-
-        Boolean acquired = stringRedisTemplate.opsForValue()
-                .setIfAbsent(lockKey, token, Duration.ofMillis(cacheProperties.getLockTimeoutMs()));
-
-        if (!Boolean.TRUE.equals(acquired)) {
-            return;
-        }
-
+    /**
+     * 갱신 락은 읽기 스크립트에서 이미 잡힌 상태
+     * 요청 경로 밖이지만 원천/적재 구간은 LOGICAL_EXPIRE로 함께 기록
+     */
+    private void submitRefresh(String symbol, String cacheKey, String lockKey, String token) {
         refreshExecutor.submit(() -> {
             try {
-                Optional<CoinQuote> quote = repository.findBySymbol(symbol);
-                if (quote.isPresent()) {
-                    saveToLogicalCache(cacheKey, quote.get());
-                } else {
-                    saveLogicalNullCache(cacheKey);
-                }
+                Optional<CoinQuote> quote = loadFromOrigin(ReadStrategy.LOGICAL_EXPIRE, symbol);
+                saveLoadedLogicalEntry(symbol, cacheKey, quote);
             } finally {
                 releaseLock(lockKey, token);
             }
@@ -285,30 +707,43 @@ public class QuoteCacheService {
 
     private void saveToCache(String cacheKey, CoinQuote quote, Duration ttl) {
         redisTemplate.opsForValue().set(cacheKey, quote, ttl);
+        nearCache.put(cacheKey, quote, ttl.toMillis());
     }
 
     private void saveNullCache(String cacheKey) {
         Duration ttl = Duration.ofSeconds(cacheProperties.getNullCacheTtlSeconds());
         redisTemplate.opsForValue().set(cacheKey, NULL_MARKER, ttl);
+        nearCache.put(cacheKey, NULL_MARKER, ttl.toMillis());
         log.debug("[Null 캐시 저장] key={}, ttl={}s", cacheKey, ttl.getSeconds());
     }
 
     private void saveToLogicalCache(String cacheKey, CoinQuote quote) {
-        long expireAt = System.currentTimeMillis()
-                + Duration.ofSeconds(cacheProperties.getLogicalExpireSeconds()).toMillis();
-        CacheValue<CoinQuote> cacheValue = new CacheValue<>(quote, expireAt);
-        Duration ttl = Duration.ofSeconds(
-                cacheProperties.getLogicalExpireSeconds() + cacheProperties.getStaleTtlBufferSeconds());
-        redisTemplate.opsForValue().set(cacheKey, cacheValue, ttl);
+        saveLogicalEntry(cacheKey, quote);
     }
 
     private void saveLogicalNullCache(String cacheKey) {
+        saveLogicalEntry(cacheKey, null);
+    }
+
+    private void saveLoadedLogicalEntry(String symbol, String cacheKey, Optional<CoinQuote> quote) {
+        long writeStart = System.nanoTime();
+        if (quote.isPresent()) {
+            saveToLogicalCache(cacheKey, quote.get());
+        } else {
+            saveLogicalNullCache(cacheKey);
+        }
+        latency.record(ReadStrategy.LOGICAL_EXPIRE, symbol, LatencyStage.CACHE_WRITE, writeStart);
+    }
+
+    private void saveLogicalEntry(String cacheKey, CoinQuote quote) {
         long expireAt = System.currentTimeMillis()
                 + Duration.ofSeconds(cacheProperties.getLogicalExpireSeconds()).toMillis();
-        CacheValue<CoinQuote> cacheValue = new CacheValue<>(null, expireAt);
+        CacheValue<CoinQuote> cacheValue = new CacheValue<>(quote, expireAt);
         Duration ttl = Duration.ofSeconds(
                 cacheProperties.getLogicalExpireSeconds() + cacheProperties.getStaleTtlBufferSeconds());
-        redisTemplate.opsForValue().set(cacheKey, cacheValue, ttl);
+        executeScript(QuoteCacheScripts.WRITE_LOGICAL, List.of(cacheKey),
+                LogicalCacheEntries.writeArgs(cacheValue, ttl.toMillis(), valueSerializer()));
+        nearCache.put(cacheKey, cacheValue, ttl.toMillis());
     }
 
     private Duration calculateTtlWithJitter() {
@@ -342,7 +777,9 @@ public class QuoteCacheService {
     }
 
     public void cacheQuoteWithoutTtl(String symbol, CoinQuote quote) {
-        redisTemplate.opsForValue().set(getCacheKey(symbol), quote);
+        String cacheKey = getCacheKey(symbol);
+        redisTemplate.opsForValue().set(cacheKey, quote);
+        nearCache.put(cacheKey, quote, NearCache.NO_EXPIRY);
     }
 
     public void cacheQuoteWithLogicalExpire(String symbol, CoinQuote quote) {
@@ -353,7 +790,9 @@ public class QuoteCacheService {
      * 캐시 강제 갱신 (Push 기반 갱신용)
      */
     public void refreshCache(String symbol, CoinQuote quote) {
+        traceRecorder.record(AccessTraceEvent.Type.REFRESH, symbol);
         String cacheKey = getCacheKey(symbol);
+        symbolFilter.put(symbol);
         saveToCache(cacheKey, quote);
         log.info("[캐시 강제 갱신] symbol={}", symbol);
     }
@@ -362,28 +801,135 @@ public class QuoteCacheService {
      * 캐시 삭제
      */
     public void evictCache(String symbol) {
+        traceRecorder.record(AccessTraceEvent.Type.EVICT, symbol);
         String cacheKey = getCacheKey(symbol);
         redisTemplate.delete(cacheKey);
+        nearCache.invalidate(cacheKey);
         log.info("[캐시 삭제] symbol={}", symbol);
     }
 
+    /**
+     * L1 -> Redis 순서로 조회
+     * L1 미스 시 GET과 PTTL을 파이프라인으로 묶어 1 RTT 안에 남은 TTL까지 받아옴
+     * 값은 바이트로 받아 직접 디코딩 (Redis 왕복과 디코딩 지연을 나눠 기록)
+     */
+    private Object readCache(ReadStrategy strategy, String symbol, String cacheKey) {
+        byte[] rawKey = rawKey(cacheKey);
+        if (!nearCache.isEnabled()) {
+            long redisStart = System.nanoTime();
+            byte[] rawValue = redisTemplate.execute(
+                    (RedisCallback<byte[]>) connection -> connection.stringCommands().get(rawKey));
+            recordRedisRead(strategy, symbol, redisStart);
+            return deserialize(strategy, symbol, rawValue);
+        }
+
+        Object local = nearCache.get(cacheKey);
+        if (local != null) {
+            return local;
+        }
+
+        long stamp = nearCache.readStamp(cacheKey);
+        long redisStart = System.nanoTime();
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().get(rawKey);
+            connection.keyCommands().pTtl(rawKey);
+            return null;
+        }, RedisSerializer.byteArray());
+        recordRedisRead(strategy, symbol, redisStart);
+        Object cached = deserialize(strategy, symbol, (byte[]) results.get(0));
+        if (cached != null && results.get(1) instanceof Long redisTtlMs) {
+            nearCache.put(cacheKey, cached, redisTtlMs, stamp);
+        }
+        return cached;
+    }
+
+    private void recordRedisRead(ReadStrategy strategy, String symbol, long redisStart) {
+        metrics.recordRedis(redisStart);
+        latency.record(strategy, symbol, LatencyStage.REDIS_READ, redisStart);
+    }
+
+    private Object deserialize(ReadStrategy strategy, String symbol, byte[] rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        long decodeStart = System.nanoTime();
+        Object value = valueSerializer().deserialize(rawValue);
+        latency.record(strategy, symbol, LatencyStage.DESERIALIZE, decodeStart);
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] rawKey(String key) {
+        return ((RedisSerializer<String>) redisTemplate.getKeySerializer()).serialize(key);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    /**
+     * 스크립트는 EVALSHA로 보내 파이프라인에 스크립트 본문이 실리지 않게 함
+     * 파이프라인 안에서는 RedisTemplate의 NOSCRIPT 대체(EVAL 재전송)가 없으므로
+     * 스크립트 캐시가 비어 있으면(재시작/SCRIPT FLUSH) 한 번 적재하고 파이프라인을 다시 보냄
+     * (SET과 토큰 확인 저장/해제는 다시 보내도 결과가 같고, 적재 알림은 중복돼도 대기자가 다시 확인할 뿐)
+     */
+    private void executePipelinedScript(RedisScript<?> script, RedisCallback<Object> callback) {
+        try {
+            redisTemplate.executePipelined(callback);
+        } catch (DataAccessException e) {
+            if (!isNoScript(e)) {
+                throw e;
+            }
+            byte[] body = script.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+            redisTemplate.execute((RedisCallback<String>) connection ->
+                    connection.scriptingCommands().scriptLoad(body));
+            redisTemplate.executePipelined(callback);
+        }
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains("NOSCRIPT")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 인자는 이미 직렬화된 바이트로 넘기고, 결과의 bulk 요소도 바이트 그대로 받음
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T executeScript(RedisScript<T> script, List<String> keys, byte[][] args) {
+        RedisSerializer<T> rawResult = (RedisSerializer<T>) RedisSerializer.byteArray();
+        return redisTemplate.execute(script, RedisSerializer.byteArray(), rawResult, keys, (Object[]) args);
+    }
+
+    /**
+     * 논리 만료 읽기는 매번 토큰을 실어 보내므로 UUID 생성 대신 인스턴스 접두사 + 순번 사용
+     */
+    private String nextRefreshToken() {
+        return refreshTokenPrefix + refreshTokenSequence.incrementAndGet();
+    }
+
     private void releaseLock(String lockKey, String token) {
-        stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(lockKey), token);
+        stringRedisTemplate.execute(QuoteCacheScripts.RELEASE_LOCK, List.of(lockKey), token);
     }
 
     private String getCacheKey(String symbol) {
-        return CACHE_KEY_PREFIX + symbol;
+        return QuoteCacheKeys.cacheKey(symbol);
     }
 
     private String getLockKey(String symbol) {
-        return LOCK_KEY_PREFIX + symbol;
+        return QuoteCacheKeys.lockKey(symbol);
     }
 
     private String getLogicalCacheKey(String symbol) {
-        return LOGICAL_CACHE_KEY_PREFIX + symbol;
+        return QuoteCacheKeys.logicalCacheKey(symbol);
     }
 
     private String getLogicalLockKey(String symbol) {
-        return LOGICAL_LOCK_KEY_PREFIX + symbol;
+        return QuoteCacheKeys.logicalLockKey(symbol);
     }
 }
@@ -0,0 +1,403 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.CacheValue;
+import com.example.coincache.cache.LogicalCacheEntries;
+import com.example.coincache.cache.NearCache;
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.cache.QuoteCacheScripts;
+import com.example.coincache.config.CacheProperties;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.repository.CoinQuoteRepository;
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceRecorder;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisElementReader;
+import org.springframework.data.redis.serializer.RedisElementWriter;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static com.example.coincache.cache.QuoteCacheKeys.NULL_MARKER;
+
+/**
+ * 논블로킹 시세 캐시 서비스 (ReactiveRedisTemplate + Lettuce 비동기 커넥션)
+ *
+ * QuoteCacheService와 같은 키/직렬화/전략을 쓰되, 대기 구간에서 스레드를 잡고 있지 않음
+ * - 락 대기: 적재 완료 신호(CacheLoadNotifier)를 Future 구독으로 기다림
+ * - SingleFlight: CompletableFuture.get 대신 공유 Mono 구독
+ * - 원천 조회: 배치 로더가 켜져 있으면 Future 구독, 아니면 boundedElastic에서 실행 (원천 자체가 블로킹이므로)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReactiveQuoteCacheService {
+
+    private final ReactiveRedisTemplate<String, Object> reactiveRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate;
+    private final CoinQuoteRepository repository;
+    private final CacheProperties cacheProperties;
+    private final NearCache nearCache;
+    private final QuoteBatchLoader batchLoader;
+    private final CacheLoadNotifier loadNotifier;
+    private final SymbolFilter symbolFilter;
+    private final CacheMetrics metrics;
+    private final RedisSerializer<Object> quoteValueSerializer;
+    private final AccessTraceRecorder traceRecorder;
+
+    private final ConcurrentHashMap<String, Mono<Optional<CoinQuote>>> inFlightRequests =
+            new ConcurrentHashMap<>();
+
+    private final String refreshTokenPrefix = UUID.randomUUID() + ":";
+    private final AtomicLong refreshTokenSequence = new AtomicLong();
+
+    public Mono<Optional<CoinQuote>> getQuote(String symbol, ReadStrategy strategy) {
+        return switch (strategy) {
+            case LOCK -> getQuoteWithDistributedLock(symbol);
+            case SINGLE_FLIGHT -> getQuoteWithSingleFlight(symbol);
+            case LOGICAL_EXPIRE -> getQuoteWithLogicalExpire(symbol);
+        };
+    }
+
+    /**
+     * 분산 락 기반 조회 (Cache Stampede 방지)
+     */
+    public Mono<Optional<CoinQuote>> getQuoteWithDistributedLock(String symbol) {
+        return getQuoteWithSymbolCheck(symbol, this::getQuoteInternal);
+    }
+
+    /**
+     * SingleFlight 기반 조회 (동일 인스턴스 내 요청 합치기)
+     */
+    public Mono<Optional<CoinQuote>> getQuoteWithSingleFlight(String symbol) {
+        return getQuoteWithSymbolCheck(symbol, this::getQuoteWithSingleFlightInternal);
+    }
+
+    /**
+     * Logical Expire + Stale-While-Revalidate 조회
+     */
+    public Mono<Optional<CoinQuote>> getQuoteWithLogicalExpire(String symbol) {
+        return getQuoteWithSymbolCheck(symbol, this::getQuoteWithLogicalExpireInternal);
+    }
+
+    private Mono<Optional<CoinQuote>> getQuoteWithSymbolCheck(
+            String symbol,
+            Function<String, Mono<Optional<CoinQuote>>> loader
+    ) {
+        return Mono.defer(() -> {
+            traceRecorder.record(AccessTraceEvent.Type.READ, symbol);
+            if (!symbolFilter.mightContain(symbol)) {
+                log.debug("[심볼 차단] 존재하지 않는 심볼: {}", symbol);
+                return Mono.just(Optional.empty());
+            }
+            return loader.apply(symbol).doOnNext(quote -> {
+                if (quote.isEmpty()) {
+                    symbolFilter.recordPassedEmpty();
+                }
+            });
+        });
+    }
+
+    private Mono<Optional<CoinQuote>> getQuoteInternal(String symbol) {
+        String cacheKey = QuoteCacheKeys.cacheKey(symbol);
+        return readCache(cacheKey)
+                .map(cached -> recordHit(ReadStrategy.LOCK, cached))
+                .switchIfEmpty(Mono.defer(() -> {
+                    log.debug("[캐시 미스] symbol={}", symbol);
+                    metrics.record(ReadStrategy.LOCK, CacheOutcome.MISS);
+                    return loadWithLock(symbol, cacheKey);
+                }));
+    }
+
+    private Mono<Optional<CoinQuote>> getQuoteWithSingleFlightInternal(String symbol) {
+        String cacheKey = QuoteCacheKeys.cacheKey(symbol);
+        return readCache(cacheKey)
+                .map(cached -> recordHit(ReadStrategy.SINGLE_FLIGHT, cached))
+                .switchIfEmpty(Mono.defer(() -> {
+                    metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.MISS);
+                    // 조립만 하고 구독 전이라 등록에 실패해도 원천 조회는 일어나지 않음
+                    Mono<Optional<CoinQuote>> created = loadFromRepositoryAndCache(symbol, cacheKey)
+                            .doFinally(signal -> inFlightRequests.remove(cacheKey))
+                            .cache();
+                    Mono<Optional<CoinQuote>> shared = inFlightRequests.putIfAbsent(cacheKey, created);
+                    if (shared == null) {
+                        // 리더는 자기 적재를 끝까지 기다림 (동기 경로와 같음, 타임아웃 시 원천을 두 번 부르지 않도록)
+                        return created;
+                    }
+                    metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.SINGLEFLIGHT_JOINED);
+                    return shared
+                            .timeout(Duration.ofMillis(cacheProperties.getSingleFlightWaitMs()))
+                            .onErrorResume(TimeoutException.class, e -> {
+                                log.warn("[SingleFlight 대기 실패] 직접 원천 조회 - symbol={}", symbol);
+                                metrics.record(ReadStrategy.SINGLE_FLIGHT, CacheOutcome.RETRY_FALLBACK);
+                                return loadFromRepositoryAndCache(symbol, cacheKey);
+                            });
+                }));
+    }
+
+    /**
+     * 읽기, stale 판정, 갱신 락 시도를 스크립트 1회로 처리 (동기 경로와 같은 스크립트)
+     */
+    private Mono<Optional<CoinQuote>> getQuoteWithLogicalExpireInternal(String symbol) {
+        String cacheKey = QuoteCacheKeys.logicalCacheKey(symbol);
+        return Mono.defer(() -> {
+            if (nearCache.get(cacheKey) instanceof CacheValue<?> cacheValue) {
+                recordLogicalHit(cacheValue);
+                return Mono.just(Optional.ofNullable((CoinQuote) cacheValue.getValue()));
+            }
+
+            long stamp = nearCache.readStamp(cacheKey);
+            String lockKey = QuoteCacheKeys.logicalLockKey(symbol);
+            // 읽기마다 토큰을 실어 보내므로 UUID 생성 대신 인스턴스 접두사 + 순번 사용
+            String token = refreshTokenPrefix + refreshTokenSequence.incrementAndGet();
+            byte[][] args = LogicalCacheEntries.readArgs(
+                    System.currentTimeMillis(), token, cacheProperties.getLockTimeoutMs());
+            long redisStart = System.nanoTime();
+            return executeScript(QuoteCacheScripts.READ_LOGICAL, List.of(cacheKey, lockKey), args)
+                    .doOnNext(result -> metrics.recordRedis(redisStart))
+                    .mapNotNull(result -> LogicalCacheEntries.parse(result, quoteValueSerializer))
+                    .map(read -> {
+                        if (read.stale()) {
+                            metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.STALE_SERVED);
+                        } else {
+                            recordLogicalHit(read.cacheValue());
+                        }
+                        if (read.refreshLockAcquired()) {
+                            metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.REFRESH_TRIGGERED);
+                            refreshInBackground(symbol, cacheKey, lockKey, token);
+                        } else if (!read.stale()) {
+                            nearCache.put(cacheKey, read.cacheValue(), read.redisTtlMs(), stamp);
+                        }
+                        return Optional.ofNullable(read.cacheValue().getValue());
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        metrics.record(ReadStrategy.LOGICAL_EXPIRE, CacheOutcome.MISS);
+                        return loadFromRepositoryAndLogicalCache(symbol, cacheKey);
+                    }));
+        });
+    }
+
+    /**
+     * 분산 락을 활용한 원천 조회 (Cache Stampede 방지)
+     */
+    private Mono<Optional<CoinQuote>> loadWithLock(String symbol, String cacheKey) {
+        String lockKey = QuoteCacheKeys.lockKey(symbol);
+        String token = UUID.randomUUID().toString();
+
+        return acquireLock(lockKey, token).flatMap(acquired -> {
+            if (Boolean.TRUE.equals(acquired)) {
+                log.debug("[락 획득] 원천 조회 시작 - symbol={}", symbol);
+                metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_ACQUIRED);
+                // 원천 조회 실패 시에만 락을 따로 풀고, 성공하면 저장/해제/알림을 스크립트 한 번으로 처리
+                return fetchFromOrigin(symbol)
+                        .onErrorResume(e -> releaseLock(lockKey, token)
+                                .then(publishLoaded(symbol))
+                                .then(Mono.error(e)))
+                        .flatMap(quote -> saveToCacheAndReleaseLock(symbol, cacheKey, quote, token)
+                                .thenReturn(quote));
+            }
+            log.debug("[락 대기] 다른 요청이 갱신 중 - symbol={}", symbol);
+            metrics.record(ReadStrategy.LOCK, CacheOutcome.LOCK_WAITED);
+            return waitAndRetry(symbol, cacheKey);
+        });
+    }
+
+    /**
+     * 적재 완료 신호(또는 락 TTL)까지 스레드 없이 기다렸다가 재조회, 그래도 없으면 락부터 다시 시도
+     */
+    private Mono<Optional<CoinQuote>> waitAndRetry(String symbol, String cacheKey) {
+        return Mono.defer(() -> {
+            CompletableFuture<Void> loaded = loadNotifier.register(symbol);
+            // 공유 Future라 타임아웃 시 cancel이 전파되지 않도록 복사본을 구독
+            Mono<Object> afterSignal = Mono.fromFuture(loaded.copy())
+                    .timeout(Duration.ofMillis(cacheProperties.getLockTimeoutMs()))
+                    .onErrorResume(TimeoutException.class, e -> {
+                        loadNotifier.unregister(symbol, loaded);
+                        return Mono.empty();
+                    })
+                    .then(readCache(cacheKey));
+
+            return readCache(cacheKey)
+                    .switchIfEmpty(afterSignal)
+                    .map(cached -> {
+                        log.debug("[재시도 캐시 히트] symbol={}", symbol);
+                        return toQuote(cached);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        log.debug("[재시도 미스] 락 재획득 시도 - symbol={}", symbol);
+                        metrics.record(ReadStrategy.LOCK, CacheOutcome.RETRY_FALLBACK);
+                        return loadWithLock(symbol, cacheKey);
+                    }));
+        });
+    }
+
+    /**
+     * 갱신 락은 읽기 스크립트에서 이미 잡힌 상태
+     */
+    private void refreshInBackground(String symbol, String cacheKey, String lockKey, String token) {
+        fetchFromOrigin(symbol)
+                .flatMap(quote -> saveToLogicalCache(cacheKey, quote.orElse(null)))
+                .onErrorResume(e -> {
+                    log.warn("[비동기 갱신 실패] symbol={}", symbol, e);
+                    return Mono.empty();
+                })
+                .then(releaseLock(lockKey, token))
+                .subscribe();
+    }
+
+    private Mono<Optional<CoinQuote>> loadFromRepositoryAndCache(String symbol, String cacheKey) {
+        return fetchFromOrigin(symbol).flatMap(quote -> {
+            Object value = quote.isPresent() ? quote.get() : NULL_MARKER;
+            Duration ttl = quote.isPresent()
+                    ? calculateTtlWithJitter()
+                    : Duration.ofSeconds(cacheProperties.getNullCacheTtlSeconds());
+            return reactiveRedisTemplate.opsForValue().set(cacheKey, value, ttl)
+                    .doOnSuccess(ignored -> nearCache.put(cacheKey, value, ttl.toMillis()))
+                    .thenReturn(quote);
+        });
+    }
+
+    private Mono<Void> saveToCacheAndReleaseLock(String symbol, String cacheKey, Optional<CoinQuote> quote,
+                                                 String token) {
+        Object value = quote.isPresent() ? quote.get() : NULL_MARKER;
+        Duration ttl = quote.isPresent()
+                ? calculateTtlWithJitter()
+                : Duration.ofSeconds(cacheProperties.getNullCacheTtlSeconds());
+        byte[][] args = {
+                quoteValueSerializer.serialize(value),
+                Long.toString(ttl.toMillis()).getBytes(StandardCharsets.US_ASCII),
+                token.getBytes(StandardCharsets.UTF_8),
+                QuoteCacheKeys.loadedChannel(symbol).getBytes(StandardCharsets.UTF_8),
+                CacheLoadNotifier.PAYLOAD.getBytes(StandardCharsets.UTF_8)
+        };
+        return executeScript(QuoteCacheScripts.SAVE_AND_RELEASE_LOCK,
+                List.of(cacheKey, QuoteCacheKeys.lockKey(symbol)), args)
+                .then(Mono.fromRunnable(() -> nearCache.put(cacheKey, value, ttl.toMillis())));
+    }
+
+    private Mono<Optional<CoinQuote>> loadFromRepositoryAndLogicalCache(String symbol, String cacheKey) {
+        return fetchFromOrigin(symbol)
+                .flatMap(quote -> saveToLogicalCache(cacheKey, quote.orElse(null)).thenReturn(quote));
+    }
+
+    private Mono<Optional<CoinQuote>> fetchFromOrigin(String symbol) {
+        return Mono.defer(() -> {
+            long originStart = System.nanoTime();
+            Mono<Optional<CoinQuote>> origin = batchLoader.isEnabled()
+                    ? Mono.fromFuture(() -> batchLoader.loadAsync(symbol))
+                    : Mono.fromCallable(() -> repository.findBySymbol(symbol)).subscribeOn(Schedulers.boundedElastic());
+            return origin.doOnNext(quote -> metrics.recordOrigin(originStart));
+        });
+    }
+
+    private Mono<Void> saveToLogicalCache(String cacheKey, CoinQuote quote) {
+        long expireAt = System.currentTimeMillis()
+                + Duration.ofSeconds(cacheProperties.getLogicalExpireSeconds()).toMillis();
+        CacheValue<CoinQuote> cacheValue = new CacheValue<>(quote, expireAt);
+        Duration ttl = Duration.ofSeconds(
+                cacheProperties.getLogicalExpireSeconds() + cacheProperties.getStaleTtlBufferSeconds());
+        return executeScript(QuoteCacheScripts.WRITE_LOGICAL, List.of(cacheKey),
+                LogicalCacheEntries.writeArgs(cacheValue, ttl.toMillis(), quoteValueSerializer))
+                .then(Mono.fromRunnable(() -> nearCache.put(cacheKey, cacheValue, ttl.toMillis())));
+    }
+
+    /**
+     * L1 -> Redis 순서로 조회 (구독 시점에 L1을 확인하도록 defer)
+     * GET과 PTTL은 같은 커넥션에 연달아 실려 나가므로 RTT는 1회
+     */
+    private Mono<Object> readCache(String cacheKey) {
+        return Mono.defer(() -> {
+            Object local = nearCache.get(cacheKey);
+            if (local != null) {
+                return Mono.just(local);
+            }
+
+            long redisStart = System.nanoTime();
+            Mono<Object> value = reactiveRedisTemplate.opsForValue().get(cacheKey)
+                    .doFinally(signal -> metrics.recordRedis(redisStart));
+            if (!nearCache.isEnabled()) {
+                return value;
+            }
+            long stamp = nearCache.readStamp(cacheKey);
+            Mono<Long> redisTtlMs = reactiveRedisTemplate.getExpire(cacheKey)
+                    .map(expire -> expire.isZero() ? NearCache.NO_EXPIRY : expire.toMillis())
+                    .defaultIfEmpty(0L);
+            return Mono.zip(value, redisTtlMs).map(tuple -> {
+                nearCache.put(cacheKey, tuple.getT1(), tuple.getT2(), stamp);
+                return tuple.getT1();
+            });
+        });
+    }
+
+    /**
+     * 인자와 결과 bulk를 바이트 그대로 주고받는 스크립트 실행
+     * 배열 응답이 요소 단위로 펼쳐져 오든 리스트 하나로 오든 같은 모양으로 모음
+     */
+    @SuppressWarnings("unchecked")
+    private Mono<List<Object>> executeScript(RedisScript<?> script, List<String> keys, byte[][] args) {
+        RedisElementReader<Object> rawResult =
+                (RedisElementReader<Object>) (RedisElementReader<?>) RedisElementReader.from(RedisSerializer.byteArray());
+        return reactiveRedisTemplate.execute((RedisScript<Object>) script, keys, List.of((Object[]) args),
+                        RedisElementWriter.from(RedisSerializer.byteArray()), rawResult)
+                .concatMapIterable(element -> element instanceof List<?> nested
+                        ? (List<Object>) nested
+                        : List.of(element))
+                .collectList();
+    }
+
+    private Mono<Boolean> acquireLock(String lockKey, String token) {
+        return reactiveStringRedisTemplate.opsForValue()
+                .setIfAbsent(lockKey, token, Duration.ofMillis(cacheProperties.getLockTimeoutMs()));
+    }
+
+    private Mono<Void> publishLoaded(String symbol) {
+        return reactiveStringRedisTemplate
+                .convertAndSend(QuoteCacheKeys.loadedChannel(symbol), CacheLoadNotifier.PAYLOAD)
+                .then();
+    }
+
+    private Mono<Void> releaseLock(String lockKey, String token) {
+        return reactiveStringRedisTemplate
+                .execute(QuoteCacheScripts.RELEASE_LOCK, List.of(lockKey), List.of(token))
+                .then();
+    }
+
+    private Optional<CoinQuote> recordHit(ReadStrategy strategy, Object cached) {
+        metrics.record(strategy, NULL_MARKER.equals(cached) ? CacheOutcome.NULL_HIT : CacheOutcome.HIT);
+        return toQuote(cached);
+    }
+
+    private void recordLogicalHit(CacheValue<?> cacheValue) {
+        metrics.record(ReadStrategy.LOGICAL_EXPIRE,
+                cacheValue.getValue() == null ? CacheOutcome.NULL_HIT : CacheOutcome.HIT);
+    }
+
+    private Optional<CoinQuote> toQuote(Object cached) {
+        if (NULL_MARKER.equals(cached)) {
+            return Optional.empty();
+        }
+        return Optional.of((CoinQuote) cached);
+    }
+
+    private Duration calculateTtlWithJitter() {
+        int baseTtl = cacheProperties.getBaseTtlSeconds();
+        int jitter = ThreadLocalRandom.current().nextInt(0, cacheProperties.getTtlJitterSeconds() + 1);
+        return Duration.ofSeconds(baseTtl + jitter);
+    }
+}
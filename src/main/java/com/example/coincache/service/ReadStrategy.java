@@ -0,0 +1,22 @@
+package com.example.coincache.service;
+
+/**
+ * 캐시 조회 전략
+ */
+public enum ReadStrategy {
+
+    /**
+     * Cache-Aside + 분산 락
+     */
+    LOCK,
+
+    /**
+     * 인스턴스 내 동일 키 요청 합치기
+     */
+    SINGLE_FLIGHT,
+
+    /**
+     * 논리 만료 + Stale-While-Revalidate
+     */
+    LOGICAL_EXPIRE
+}
@@ -0,0 +1,21 @@
+package com.example.coincache.service;
+
+/**
+ * 지연 집계용 심볼 구분 (cache.quotes.latency.hot-symbols에 있으면 HOT)
+ */
+public enum SymbolClass {
+
+    HOT("hot"),
+
+    COLD("cold");
+
+    private final String tag;
+
+    SymbolClass(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.BloomFilter;
+import com.example.coincache.cache.BloomFilterFile;
+import com.example.coincache.cache.ConcurrentBloomFilter;
+import com.example.coincache.cache.RedisBloomFilter;
+import com.example.coincache.config.CacheProperties;
+import com.example.coincache.repository.CoinQuoteRepository;
+import com.example.coincache.repository.SymbolCatalogResetEvent;
+import com.example.coincache.repository.SymbolListedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 경로의 심볼 존재 확인 (Cache Penetration 1차 방어)
+ *
+ * - 기동 시 원천 전체 심볼로 Bloom Filter를 만들고, 이후 조회마다 원천(existsSymbol) 대신 필터만 확인
+ *   스냅샷 파일이 있으면 그걸 매핑해 원천 조회 없이 바로 쓰고, 꺼져 있던 동안의 신규 심볼은 백그라운드 재구성으로 반영
+ *   재구성/종료 때마다 스냅샷을 다시 저장
+ * - 신규 심볼은 원천 이벤트/강제 갱신 때 바로 put (락 없는 ConcurrentBloomFilter)
+ * - 주기적으로 새 필터를 만들어 통째로 교체 - 폐지 심볼이 빠지고, 심볼 수가 늘면 크기도 다시 잡음
+ *   재구성 중 들어온 put은 새 필터에도 넣어 교체 후 빠지는 심볼이 없음
+ *   원천 목록에 없는 심볼(refreshCache로만 들어온 Push 심볼)은 따로 모아 재구성마다 다시 넣음
+ * - mode=redis면 로컬 필터 대신 RedisBloomFilter 하나를 모든 인스턴스가 공유
+ *   조회/추가는 1 RTT, 한 인스턴스의 put이 바로 전체에 보임, 재구성은 오프라인 빌드 후 SET 1회로 교체
+ *   (스냅샷 파일은 쓰지 않음 - 비트맵이 Redis에 남아 있으므로)
+ * - 관측 오탐률: 통과 후 빈 결과로 끝난 요청 수 / (차단된 요청 수 + 그 수)
+ *   둘 다 요청 단위 - 빈 결과는 원천 조회든 Null 캐시 히트든 요청마다 셈 (Null 캐시가 원천 반복 조회를 막아도 과소 집계 안 됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SymbolFilter {
+
+    private final CoinQuoteRepository repository;
+    private final CacheProperties cacheProperties;
+    private final RedisBloomFilter redisFilter;
+
+    private final LongAdder blockedCount = new LongAdder();
+    private final LongAdder passedEmptyCount = new LongAdder();
+    /**
+     * 마지막 재구성 심볼 수 + 이후 새로 들어온 심볼 수 (다음 필터 크기 산정용)
+     */
+    private final AtomicInteger knownSymbols = new AtomicInteger();
+    /**
+     * put으로 들어왔지만 마지막 재구성 때 원천 목록에 없던 심볼 (원천 목록에 나타나면 제거)
+     */
+    private final Set<String> addedSymbols = ConcurrentHashMap.newKeySet();
+
+    private volatile ConcurrentBloomFilter filter;
+    private volatile ConcurrentBloomFilter building;
+    /**
+     * redis 모드 재구성 중 들어온 심볼 (SET 교체로 덮이므로 적재 후 다시 put)
+     */
+    private volatile Set<String> sharedBuildingAdds;
+    private ScheduledExecutorService rebuildScheduler;
+
+    @PostConstruct
+    public void init() {
+        if (!isEnabled()) {
+            return;
+        }
+        boolean restored = false;
+        if (isRedisMode()) {
+            // 다른 인스턴스가 이미 적재했으면 그대로 공유
+            if (!redisFilter.isLoaded()) {
+                rebuild();
+            }
+        } else {
+            restored = loadSnapshot();
+            if (!restored) {
+                rebuild();
+            }
+        }
+        long interval = cacheProperties.getSymbolFilter().getRebuildIntervalSeconds();
+        if (interval > 0 || restored) {
+            rebuildScheduler = Executors.newSingleThreadScheduledExecutor();
+        }
+        if (restored) {
+            rebuildScheduler.execute(this::rebuildSafely);
+        }
+        if (interval > 0) {
+            rebuildScheduler.scheduleWithFixedDelay(this::rebuildSafely, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (rebuildScheduler != null) {
+            rebuildScheduler.shutdown();
+        }
+        // 마지막 재구성 이후 put된 심볼까지 저장
+        synchronized (this) {
+            writeSnapshot();
+        }
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties.getSymbolFilter().isEnabled();
+    }
+
+    public boolean isRedisMode() {
+        return cacheProperties.getSymbolFilter().getMode() == CacheProperties.SymbolFilterProperties.Mode.REDIS;
+    }
+
+    /**
+     * 꺼져 있거나 아직 로컬 필터가 없으면 원천 화이트리스트를 그대로 확인
+     * redis 모드에서 비트맵이 아직 없으면 통과 (RedisBloomFilter 규칙)
+     */
+    public boolean mightContain(String symbol) {
+        boolean passed;
+        if (!isEnabled()) {
+            passed = repository.existsSymbol(symbol);
+        } else if (isRedisMode()) {
+            passed = redisFilter.mightContain(symbol);
+        } else {
+            ConcurrentBloomFilter current = filter;
+            passed = current != null ? current.mightContain(symbol) : repository.existsSymbol(symbol);
+        }
+        if (!passed) {
+            blockedCount.increment();
+        }
+        return passed;
+    }
+
+    public void put(String symbol) {
+        if (!isEnabled()) {
+            return;
+        }
+        // 재구성이 이 집합을 원천 목록 뒤에 읽으므로 필터보다 먼저 기록
+        addedSymbols.add(symbol);
+        if (isRedisMode()) {
+            // 기록을 먼저 해야 SET 직전에 들어간 비트도 재구성 뒤 다시 넣음
+            Set<String> pending = sharedBuildingAdds;
+            if (pending != null) {
+                pending.add(symbol);
+            }
+            redisFilter.put(symbol);
+            return;
+        }
+        ConcurrentBloomFilter current = filter;
+        if (current == null) {
+            // 첫 구성 전이면 구성 때 원천 목록/addedSymbols로 포함됨
+            return;
+        }
+        // 현재 필터에 먼저 넣고 나서 재구성 중인 필터를 확인 (재구성은 building을 건 뒤에 원천 목록을 읽음)
+        if (current.put(symbol)) {
+            knownSymbols.incrementAndGet();
+        }
+        ConcurrentBloomFilter next = building;
+        if (next != null) {
+            next.put(symbol);
+        }
+    }
+
+    /**
+     * 원천 전체 심볼로 새 필터를 만들어 교체
+     */
+    public synchronized void rebuild() {
+        if (isRedisMode()) {
+            rebuildShared();
+            return;
+        }
+        CacheProperties.SymbolFilterProperties properties = cacheProperties.getSymbolFilter();
+        long start = System.nanoTime();
+
+        // 원천 목록은 building을 건 뒤에 읽어야 그 사이 추가된 심볼이 빠지지 않으므로 크기는 추정치로 잡음
+        int expected = Math.max(properties.getExpectedInsertions(), knownSymbols.get() * 2);
+        ConcurrentBloomFilter next = new ConcurrentBloomFilter(expected, properties.getFpp());
+        building = next;
+        Collection<String> symbols = repository.findAllSymbols();
+        for (String symbol : symbols) {
+            next.put(symbol);
+        }
+        addedSymbols.forEach(next::put);
+        filter = next;
+        building = null;
+        knownSymbols.set(symbols.size() + pruneAddedSymbols(symbols));
+
+        log.info("[심볼 필터 재구성] symbols={}, bits={}, {}ms, 관측 오탐률={}",
+                symbols.size(), next.bitSize(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                String.format("%.4f", observedFalsePositiveRate()));
+        writeSnapshot();
+    }
+
+    /**
+     * 오프라인으로 만든 필터를 공유 비트맵에 SET 1회로 적재 (redis 모드)
+     * 필터는 newOfflineFilter()로 만들어야 모양(비트 수, 해시 수)이 맞음
+     */
+    public void load(BloomFilter offline) {
+        if (!isRedisMode()) {
+            throw new IllegalStateException("Symbol filter mode is " + cacheProperties.getSymbolFilter().getMode()
+                    + ", offline load requires REDIS");
+        }
+        redisFilter.load(offline);
+    }
+
+    public BloomFilter newOfflineFilter() {
+        return redisFilter.newLocalFilter();
+    }
+
+    /**
+     * 원천 전체 심볼로 오프라인 필터를 만들어 공유 비트맵을 교체
+     */
+    private void rebuildShared() {
+        long start = System.nanoTime();
+        Set<String> pending = ConcurrentHashMap.newKeySet();
+        sharedBuildingAdds = pending;
+        try {
+            BloomFilter offline = newOfflineFilter();
+            Collection<String> symbols = repository.findAllSymbols();
+            for (String symbol : symbols) {
+                offline.put(symbol);
+            }
+            addedSymbols.forEach(offline::put);
+            load(offline);
+            pruneAddedSymbols(symbols);
+            log.info("[심볼 필터 재구성(Redis)] symbols={}, bits={}, {}ms", symbols.size(), offline.bitSize(),
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            sharedBuildingAdds = null;
+            pending.forEach(redisFilter::put);
+        }
+    }
+
+    /**
+     * 원천 목록에 들어온 심볼은 다음 재구성부터 목록으로 포함되므로 제거
+     *
+     * @return 남은 (원천 목록에 없는) 심볼 수
+     */
+    private int pruneAddedSymbols(Collection<String> catalog) {
+        Set<String> listed = new HashSet<>(catalog);
+        addedSymbols.removeIf(listed::contains);
+        return addedSymbols.size();
+    }
+
+    /**
+     * 필터를 통과한 요청이 빈 결과로 끝남 (오탐 또는 데이터 없는 유효 심볼, Null 캐시 히트 포함)
+     */
+    public void recordPassedEmpty() {
+        passedEmptyCount.increment();
+    }
+
+    public long getBlockedCount() {
+        return blockedCount.sum();
+    }
+
+    public long getPassedEmptyCount() {
+        return passedEmptyCount.sum();
+    }
+
+    public double observedFalsePositiveRate() {
+        long misses = passedEmptyCount.sum();
+        long negatives = blockedCount.sum() + misses;
+        return negatives == 0 ? 0.0d : (double) misses / negatives;
+    }
+
+    public void resetStats() {
+        blockedCount.reset();
+        passedEmptyCount.reset();
+    }
+
+    @EventListener
+    public void onSymbolListed(SymbolListedEvent event) {
+        put(event.symbol());
+    }
+
+    @EventListener
+    public void onCatalogReset(SymbolCatalogResetEvent event) {
+        if (isEnabled()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * @return 스냅샷으로 필터를 복원했으면 true, 설정이 없거나 파일이 없거나/헤더가 맞지 않으면 false (원천으로 재구성)
+     */
+    private boolean loadSnapshot() {
+        Path path = snapshotPath();
+        if (path == null || !Files.exists(path)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        try {
+            filter = BloomFilterFile.load(path);
+        } catch (IOException e) {
+            log.warn("[심볼 필터 스냅샷 거절] 원천으로 재구성 - {}", e.getMessage());
+            return false;
+        }
+        log.info("[심볼 필터 스냅샷 복원] path={}, bits={}, {}us", path, filter.bitSize(),
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+        return true;
+    }
+
+    /**
+     * 실패해도 현재 필터는 그대로 쓰고 다음 재구성 때 다시 저장
+     */
+    private void writeSnapshot() {
+        Path path = snapshotPath();
+        ConcurrentBloomFilter current = filter;
+        if (path == null || current == null) {
+            return;
+        }
+        try {
+            BloomFilterFile.write(current, path);
+        } catch (IOException e) {
+            log.warn("[심볼 필터 스냅샷 저장 실패] path={}", path, e);
+        }
+    }
+
+    private Path snapshotPath() {
+        String path = cacheProperties.getSymbolFilter().getSnapshotPath();
+        return path == null || path.isBlank() ? null : Path.of(path);
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 기존 필터를 그대로 쓰고 다음 주기에 다시 시도
+            log.warn("[심볼 필터 재구성 실패] 기존 필터 유지", e);
+        }
+    }
+}
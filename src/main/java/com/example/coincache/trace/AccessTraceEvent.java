@@ -0,0 +1,27 @@
+package com.example.coincache.trace;
+
+/**
+ * 접근 트레이스 한 건
+ *
+ * @param offsetMicros 기록 시작 시각부터의 경과 시간 (마이크로초, 파일 안에서 감소하지 않음)
+ */
+public record AccessTraceEvent(long offsetMicros, Type type, String symbol) {
+
+    public enum Type {
+
+        /**
+         * 시세 조회 (단건/다건 모두 심볼별 한 건)
+         */
+        READ,
+
+        /**
+         * 강제 갱신 (Push)
+         */
+        REFRESH,
+
+        /**
+         * 캐시 삭제
+         */
+        EVICT
+    }
+}
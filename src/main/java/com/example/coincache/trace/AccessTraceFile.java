@@ -0,0 +1,209 @@
+package com.example.coincache.trace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 접근 트레이스 바이너리 파일 (운영 접근 로그를 오프라인에서 재생하기 위한 포맷)
+ *
+ * 포맷 (빅엔디언)
+ * - 헤더 16바이트: MAGIC(4) | VERSION(4) | startEpochMillis(8)
+ * - 레코드: tag(1) | deltaMicros(varint) | symbolId(varint) [| nameLength(varint) | name(UTF-8)]
+ *   tag 하위 2비트 = 이벤트 종류, NEW_SYMBOL 비트가 있으면 처음 나온 심볼이라 이름이 뒤따름
+ *   deltaMicros는 직전 레코드와의 간격, symbolId는 처음 나온 순서대로 0부터
+ *
+ * - 심볼은 처음 한 번만 이름을 쓰고 이후 id만 써서 레코드당 보통 3~4바이트
+ * - 사용자/요청 식별자는 담지 않음 (시각, 종류, 심볼만)
+ * - 기록 중 프로세스가 죽어 마지막 레코드가 잘렸으면 그 앞까지만 읽음
+ */
+public final class AccessTraceFile {
+
+    public static final int MAGIC = 0x51545243;
+    public static final int VERSION = 1;
+
+    private static final int TYPE_MASK = 0b11;
+    private static final int NEW_SYMBOL = 0b100;
+
+    private AccessTraceFile() {
+    }
+
+    public static List<AccessTraceEvent> readAll(Path path) throws IOException {
+        List<AccessTraceEvent> events = new ArrayList<>();
+        try (Reader reader = new Reader(Files.newInputStream(path), path)) {
+            AccessTraceEvent event;
+            while ((event = reader.next()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * 순서대로 레코드를 이어 씀 (스레드 안전하지 않음 - 기록기는 전용 스레드 하나에서 사용)
+     */
+    public static final class Writer implements Closeable {
+
+        private final DataOutputStream out;
+        private final Map<String, Integer> symbolIds = new HashMap<>();
+        private long lastOffsetMicros;
+        private long written;
+
+        public Writer(OutputStream out, long startEpochMillis) throws IOException {
+            this.out = new DataOutputStream(new BufferedOutputStream(out));
+            this.out.writeInt(MAGIC);
+            this.out.writeInt(VERSION);
+            this.out.writeLong(startEpochMillis);
+        }
+
+        /**
+         * 이전 레코드보다 이른 시각은 같은 시각으로 기록 (여러 스레드에서 모은 이벤트의 미세한 역전)
+         */
+        public void write(AccessTraceEvent event) throws IOException {
+            long offset = Math.max(event.offsetMicros(), lastOffsetMicros);
+            Integer id = symbolIds.get(event.symbol());
+            boolean newSymbol = id == null;
+            if (newSymbol) {
+                id = symbolIds.size();
+                symbolIds.put(event.symbol(), id);
+            }
+
+            out.writeByte(event.type().ordinal() | (newSymbol ? NEW_SYMBOL : 0));
+            writeVarLong(offset - lastOffsetMicros);
+            writeVarLong(id);
+            if (newSymbol) {
+                byte[] name = event.symbol().getBytes(StandardCharsets.UTF_8);
+                writeVarLong(name.length);
+                out.write(name);
+            }
+            lastOffsetMicros = offset;
+            written++;
+        }
+
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        public long written() {
+            return written;
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+
+        private void writeVarLong(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                out.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            out.writeByte((int) value);
+        }
+    }
+
+    public static final class Reader implements Closeable {
+
+        private static final AccessTraceEvent.Type[] TYPES = AccessTraceEvent.Type.values();
+
+        private final DataInputStream in;
+        private final Path path;
+        private final List<String> symbols = new ArrayList<>();
+        private final long startEpochMillis;
+        private long offsetMicros;
+
+        /**
+         * @param path 오류 메시지용 (스트림만 있으면 null)
+         * @throws IOException 헤더가 맞지 않을 때
+         */
+        public Reader(InputStream in, Path path) throws IOException {
+            this.in = new DataInputStream(new BufferedInputStream(in));
+            this.path = path;
+            int magic;
+            int version;
+            try {
+                magic = this.in.readInt();
+                version = this.in.readInt();
+                this.startEpochMillis = this.in.readLong();
+            } catch (EOFException e) {
+                throw invalid("too short");
+            }
+            if (magic != MAGIC) {
+                throw invalid("bad magic 0x" + Integer.toHexString(magic));
+            }
+            if (version != VERSION) {
+                throw invalid("unsupported version " + version);
+            }
+        }
+
+        public long startEpochMillis() {
+            return startEpochMillis;
+        }
+
+        /**
+         * @return 다음 레코드, 끝(또는 잘린 마지막 레코드)이면 null
+         */
+        public AccessTraceEvent next() throws IOException {
+            int tag = in.read();
+            if (tag < 0) {
+                return null;
+            }
+            try {
+                long delta = readVarLong();
+                int id = (int) readVarLong();
+                if ((tag & NEW_SYMBOL) != 0) {
+                    if (id != symbols.size()) {
+                        throw invalid("unexpected symbol id " + id + " (next is " + symbols.size() + ")");
+                    }
+                    byte[] name = new byte[(int) readVarLong()];
+                    in.readFully(name);
+                    symbols.add(new String(name, StandardCharsets.UTF_8));
+                } else if (id >= symbols.size()) {
+                    throw invalid("undefined symbol id " + id);
+                }
+                int type = tag & TYPE_MASK;
+                if (type >= TYPES.length) {
+                    throw invalid("bad event type " + type);
+                }
+                offsetMicros += delta;
+                return new AccessTraceEvent(offsetMicros, TYPES[type], symbols.get(id));
+            } catch (EOFException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+
+        private long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw invalid("varint too long");
+        }
+
+        private IOException invalid(String reason) {
+            return new IOException("Invalid access trace file " + (path != null ? path : "<stream>") + ": " + reason);
+        }
+    }
+}
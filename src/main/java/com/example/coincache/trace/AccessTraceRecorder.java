@@ -0,0 +1,157 @@
+package com.example.coincache.trace;
+
+import com.example.coincache.config.CacheProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회/갱신/삭제 접근 트레이스 기록기 (AccessTraceFile 포맷)
+ *
+ * - 기록 중이 아니면 volatile 읽기 한 번으로 끝남
+ * - 요청 스레드는 이벤트를 큐에 넣기만 하고 파일 쓰기는 전용 스레드가 맡음
+ *   큐가 가득 차거나 종료 중이면 요청을 막지 않고 이벤트를 버린 뒤 개수만 셈
+ * - cache.quotes.trace.enabled=true면 기동 시 path로 시작, 실행 중 start/stop으로도 켜고 끔
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AccessTraceRecorder {
+
+    private static final long POLL_MS = 100;
+
+    private final CacheProperties cacheProperties;
+
+    private volatile Session session;
+
+    @PostConstruct
+    public void init() {
+        CacheProperties.TraceProperties properties = cacheProperties.getTrace();
+        if (properties.isEnabled()) {
+            start(Path.of(properties.getPath()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    public void record(AccessTraceEvent.Type type, String symbol) {
+        Session current = session;
+        if (current != null) {
+            current.offer(type, symbol);
+        }
+    }
+
+    public boolean isRecording() {
+        return session != null;
+    }
+
+    /**
+     * 이미 기록 중이면 이전 파일을 닫고 새 파일로 시작
+     */
+    public synchronized void start(Path path) {
+        stop();
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            AccessTraceFile.Writer writer = new AccessTraceFile.Writer(Files.newOutputStream(path),
+                    System.currentTimeMillis());
+            session = new Session(writer, cacheProperties.getTrace().getQueueCapacity());
+            log.info("[트레이스 기록 시작] path={}", path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start access trace " + path, e);
+        }
+    }
+
+    /**
+     * 큐에 남은 이벤트까지 쓰고 파일을 닫음
+     *
+     * @return 기록된 이벤트 수 (기록 중이 아니었으면 0)
+     */
+    public synchronized long stop() {
+        Session current = session;
+        if (current == null) {
+            return 0;
+        }
+        session = null;
+        long written = current.close();
+        log.info("[트레이스 기록 종료] written={}, dropped={}", written, current.dropped.sum());
+        return written;
+    }
+
+    private static final class Session {
+
+        private final AccessTraceFile.Writer writer;
+        private final BlockingQueue<AccessTraceEvent> queue;
+        private final ExecutorService writerThread = Executors.newSingleThreadExecutor();
+        private final long startNanos = System.nanoTime();
+        private final LongAdder dropped = new LongAdder();
+        private volatile boolean closing;
+
+        private Session(AccessTraceFile.Writer writer, int capacity) {
+            this.writer = writer;
+            this.queue = new ArrayBlockingQueue<>(capacity);
+            writerThread.execute(this::drain);
+        }
+
+        private void offer(AccessTraceEvent.Type type, String symbol) {
+            long offsetMicros = (System.nanoTime() - startNanos) / 1_000;
+            if (closing || !queue.offer(new AccessTraceEvent(offsetMicros, type, symbol))) {
+                dropped.increment();
+            }
+        }
+
+        private void drain() {
+            try (writer) {
+                while (!closing || !queue.isEmpty()) {
+                    AccessTraceEvent event = queue.poll(POLL_MS, TimeUnit.MILLISECONDS);
+                    if (event != null) {
+                        writer.write(event);
+                    } else {
+                        writer.flush();
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("[트레이스 쓰기 실패] 기록 중단 - {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        /**
+         * 쓰기 스레드가 끝난 뒤 큐에 남은 이벤트(종료 직전에 들어왔거나 쓰기 실패로 못 쓴 것)는 버린 것으로 셈
+         */
+        private long close() {
+            closing = true;
+            writerThread.shutdown();
+            try {
+                if (!writerThread.awaitTermination(5, TimeUnit.SECONDS)) {
+                    writerThread.shutdownNow();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                writerThread.shutdownNow();
+            }
+            dropped.add(queue.drainTo(new ArrayList<>()));
+            return writer.written();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.coincache.benchmark;
+
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 풀 vs 가상 스레드 처리량/p99 비교 (./gradlew benchmark)
+ * - 워크로드: CacheStampedeTest의 분산 락 시나리오 (핫 키 하나에 동시 요청 폭주)
+ * - 원천 지연을 100ms로 늘려 대기자(락 대기 sleep, 재시도 원천 조회)가 스레드를 오래 잡도록 만듦
+ * - 플랫폼 풀 크기는 Tomcat 기본 max-threads(200)에 맞춤
+ * - 지연은 제출 시점부터 측정하므로 풀에서 줄 서 있던 시간도 포함됨
+ */
+@Tag("benchmark")
+@DisplayName("가상 스레드 스탬피드 벤치마크")
+@TestPropertySource(properties = "repository.latency-ms=100")
+class VirtualThreadStampedeBenchmark extends CacheTestSupport {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadStampedeBenchmark.class);
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Test
+    @DisplayName("느린 원천에서 가상 스레드가 처리량과 p99를 개선하는지 비교")
+    void compareThreadingModes() throws InterruptedException {
+        int requests = dataSize();
+
+        Result platform = run("HOT_BENCH_PLATFORM", requests, Executors.newFixedThreadPool(PLATFORM_POOL_SIZE));
+        Result virtual = run("HOT_BENCH_VIRTUAL", requests, Executors.newVirtualThreadPerTaskExecutor());
+
+        log.info("[platform x{}] throughput={} req/s, p99={} ms, max={} ms, originCalls={}",
+                PLATFORM_POOL_SIZE, platform.throughput(), platform.p99Ms(), platform.maxMs(), platform.originCalls());
+        log.info("[virtual     ] throughput={} req/s, p99={} ms, max={} ms, originCalls={}",
+                virtual.throughput(), virtual.p99Ms(), virtual.maxMs(), virtual.originCalls());
+
+        assertThat(platform.completed()).isEqualTo(requests);
+        assertThat(virtual.completed()).isEqualTo(requests);
+    }
+
+    private Result run(String symbol, int requests, ExecutorService executor) throws InterruptedException {
+        repository.updateQuote(symbol, newQuote(symbol));
+        repository.resetQueryCount();
+
+        long[] latencies = new long[requests];
+        CountDownLatch done = new CountDownLatch(requests);
+        long start = System.nanoTime();
+        try (executor) {
+            for (int i = 0; i < requests; i++) {
+                int index = i;
+                long submittedAt = System.nanoTime();
+                executor.submit(() -> {
+                    try {
+                        quoteCacheService.getQuoteWithDistributedLock(symbol);
+                    } finally {
+                        latencies[index] = System.nanoTime() - submittedAt;
+                        done.countDown();
+                    }
+                });
+            }
+            done.await(120, TimeUnit.SECONDS);
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        int p99Index = Math.max(0, (int) Math.ceil(requests * 0.99) - 1);
+        return new Result(
+                (int) (requests - done.getCount()),
+                Math.round(requests / (elapsed / 1_000_000_000d)),
+                latencies[p99Index] / 1_000_000d,
+                latencies[requests - 1] / 1_000_000d,
+                repository.getQueryCount()
+        );
+    }
+
+    private record Result(int completed, long throughput, double p99Ms, double maxMs, int originCalls) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.coincache.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Murmur3 x64 128비트 기대값 검증
+ * - 상황: 블록/꼬리 처리나 상수가 어긋나도 Bloom Filter는 오탐률만 조금 흔들릴 뿐 테스트가 통과함
+ * - 대응: 공개된 기대값과 비트 단위로 비교
+ *   - Guava Murmur3Hash128Test의 바이트 벡터 (char 하나에 바이트 두 개를 리틀엔디언으로 담아 그대로 재현)
+ *   - hashUnencodedChars(UTF-16LE 바이트) 기준 값, 꼬리 길이 0~7 char와 비ASCII 포함
+ */
+@DisplayName("Murmur3 해시 기대값 테스트")
+class Murmur3Test {
+
+    @Test
+    @DisplayName("hashUnencodedChars와 같은 값을 낸다")
+    void hash128_matchesUnencodedChars() {
+        assertHash("", 0x0000000000000000L, 0x0000000000000000L);
+        assertHash("hello", 0xee2ee18fe1bfd387L, 0x7b927262d8c336c4L);
+        assertHash("BTC", 0x06e2d8fed7dc9316L, 0xf67edd56b37f1fa4L);
+        assertHash("비트코인", 0x5eba830d780d010eL, 0xe542a9769d6ffe00L);
+        assertHash("이더리움 클래식", 0x074db443e1aac49aL, 0xd3ae7f83dc9c50d4L);
+        assertHash("BTC_KRW_€", 0xcf065aa1ddded22fL, 0x08a2cd0eddd213b5L);
+        assertHash("The quick brown fox jumps over the lazy dog", 0xc0026631b551ae4cL, 0xe75f3e8442567c1cL);
+    }
+
+    /*
+     * Guava Murmur3Hash128Test.testKnownValues 중 바이트 길이가 짝수인 항목
+     */
+    @Test
+    @DisplayName("공개된 Murmur3 x64_128 바이트 벡터와 일치한다")
+    void hash128_matchesPublishedByteVectors() {
+        assertPublished("hell", 0, 0x629942693e10f867L, 0x92db0b82baeb5347L);
+        assertPublished("hello ", 2, 0x8a486b23f422e826L, 0xf962a2c58947765fL);
+        assertPublished("hello wo", 4, 0x79f6305a386c572cL, 0x46305aed3483b94eL);
+    }
+
+    private static void assertHash(String value, long h1, long h2) {
+        long[] out = new long[2];
+
+        Murmur3.hash128(value, 0, out);
+
+        assertThat(out).as(value).containsExactly(h1, h2);
+    }
+
+    private static void assertPublished(String input, long seed, long h1, long h2) {
+        byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+        char[] packed = new char[bytes.length / 2];
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = (char) ((bytes[2 * i] & 0xff) | (bytes[2 * i + 1] & 0xff) << 8);
+        }
+        long[] out = new long[2];
+
+        Murmur3.hash128(new String(packed), seed, out);
+
+        assertThat(out).containsExactly(h1, h2);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.coincache.repository;
+
+import com.example.coincache.config.OriginProperties;
+import com.example.coincache.domain.CoinQuote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 원천 시뮬레이터
+ * - 상황: 고정 지연(repository.latency-ms)만으로는 거래소 API의 긴 꼬리, 호출 한도, 장애가 재현되지 않음
+ * - 대응: 지연 분포/멈춤, 유형별 실패, 동시 호출/초당 호출 한도, 가격 변동을 설정으로 켬
+ */
+@DisplayName("원천 시뮬레이터 테스트")
+class OriginSimulatorTest {
+
+    @Test
+    @DisplayName("로그정규/이봉 분포는 중앙값을 유지하면서 긴 꼬리를 만든다")
+    void latencyDistributions_haveLongTails() {
+        OriginProperties logNormal = properties(50);
+        logNormal.getSimulator().setLatencyDistribution(OriginProperties.LatencyDistribution.LOGNORMAL);
+        long[] samples = sample(new OriginSimulator(logNormal), 20_000);
+        assertThat((double) samples[samples.length / 2]).isCloseTo(50, within(5d));
+        assertThat(samples[(int) (samples.length * 0.99)]).isGreaterThan(120);
+
+        OriginProperties bimodal = properties(20);
+        bimodal.getSimulator().setLatencyDistribution(OriginProperties.LatencyDistribution.BIMODAL);
+        bimodal.getSimulator().setLatencySigma(0.1);
+        bimodal.getSimulator().setSlowLatencyMs(800);
+        bimodal.getSimulator().setSlowProbability(0.05);
+        long slow = Arrays.stream(sample(new OriginSimulator(bimodal), 20_000)).filter(ms -> ms > 400).count();
+        assertThat(slow / 20_000d).isCloseTo(0.05, within(0.01));
+    }
+
+    @Test
+    @DisplayName("초당 호출 한도를 넘은 호출은 RATE_LIMITED로 거절된다")
+    void requestsPerSecond_rejectsExcess() {
+        OriginProperties properties = properties(0);
+        properties.getSimulator().setRequestsPerSecond(10);
+        OriginSimulator simulator = new OriginSimulator(properties);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(simulator.call(() -> "ok")).isEqualTo("ok");
+        }
+        assertThatThrownBy(() -> simulator.call(() -> "ok"))
+                .isInstanceOfSatisfying(OriginException.class,
+                        e -> assertThat(e.getType()).isEqualTo(OriginException.Type.RATE_LIMITED));
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한을 넘으면 기다리지 않고 CONCURRENCY_LIMITED로 거절된다")
+    void maxConcurrentRequests_rejectsOverflow() throws Exception {
+        OriginProperties properties = properties(300);
+        properties.getSimulator().setMaxConcurrentRequests(2);
+        OriginSimulator simulator = new OriginSimulator(properties);
+
+        Callable<OriginException.Type> call = () -> {
+            try {
+                simulator.call(() -> "ok");
+                return null;
+            } catch (OriginException e) {
+                return e.getType();
+            }
+        };
+        List<OriginException.Type> results;
+        try (ExecutorService executor = Executors.newFixedThreadPool(5)) {
+            List<Future<OriginException.Type>> futures = executor.invokeAll(IntStream.range(0, 5).mapToObj(i -> call).toList());
+            results = futures.stream().map(future -> {
+                try {
+                    return future.get();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+        }
+
+        assertThat(results).filteredOn(type -> type == OriginException.Type.CONCURRENCY_LIMITED).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("실패 확률과 유형 비율대로 TIMEOUT/UNAVAILABLE이 나온다")
+    void errorRate_throwsTypedFailures() {
+        OriginProperties properties = properties(0);
+        properties.getSimulator().setErrorRate(1.0);
+        properties.getSimulator().setTimeoutShare(0);
+        OriginSimulator unavailable = new OriginSimulator(properties);
+        assertThatThrownBy(() -> unavailable.call(() -> "ok"))
+                .isInstanceOfSatisfying(OriginException.class,
+                        e -> assertThat(e.getType()).isEqualTo(OriginException.Type.UNAVAILABLE));
+
+        properties.getSimulator().setTimeoutShare(1.0);
+        properties.getSimulator().setTimeoutMs(50);
+        OriginSimulator timingOut = new OriginSimulator(properties);
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> timingOut.call(() -> "ok"))
+                .isInstanceOfSatisfying(OriginException.class,
+                        e -> assertThat(e.getType()).isEqualTo(OriginException.Type.TIMEOUT));
+        assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(50_000_000L);
+    }
+
+    @Test
+    @DisplayName("가격은 마지막 갱신 이후 흐른 시간만큼 변동한다")
+    void drift_movesPriceByElapsedTime() {
+        OriginProperties properties = properties(0);
+        properties.getSimulator().setPriceVolatility(0.01);
+        OriginSimulator simulator = new OriginSimulator(properties);
+        LocalDateTime now = LocalDateTime.now();
+        CoinQuote quote = CoinQuote.builder()
+                .symbol("BTC")
+                .price(new BigDecimal("67500.00"))
+                .change24h(new BigDecimal("2.5"))
+                .volume24h(new BigDecimal("28000000000"))
+                .updatedAt(now.minusSeconds(600))
+                .build();
+
+        CoinQuote drifted = simulator.drift(quote, now);
+        CoinQuote unchanged = simulator.drift(drifted, now);
+
+        assertThat(simulator.isDriftEnabled()).isTrue();
+        assertThat(drifted.getPrice()).isNotEqualByComparingTo(quote.getPrice());
+        assertThat(drifted.getPrice().doubleValue()).isBetween(67500 * 0.5, 67500 * 1.5);
+        assertThat(drifted.getUpdatedAt()).isEqualTo(now);
+        assertThat(unchanged.getPrice()).isEqualByComparingTo(drifted.getPrice());
+    }
+
+    private OriginProperties properties(int latencyMs) {
+        OriginProperties properties = new OriginProperties();
+        properties.setLatencyMs(latencyMs);
+        return properties;
+    }
+
+    private long[] sample(OriginSimulator simulator, int count) {
+        long[] samples = new long[count];
+        for (int i = 0; i < count; i++) {
+            samples[i] = simulator.sampleLatencyMs();
+        }
+        Arrays.sort(samples);
+        return samples;
+    }
+}
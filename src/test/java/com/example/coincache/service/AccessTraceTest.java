@@ -0,0 +1,163 @@
+package com.example.coincache.service;
+
+import com.example.coincache.support.CacheTestSupport;
+import com.example.coincache.support.workload.KeyDistribution;
+import com.example.coincache.support.workload.OperationMix;
+import com.example.coincache.support.workload.TraceReplayer;
+import com.example.coincache.support.workload.WorkloadGenerator;
+import com.example.coincache.support.workload.WorkloadReport;
+import com.example.coincache.support.workload.WorkloadSpec;
+import com.example.coincache.support.workload.WorkloadTarget;
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceFile;
+import com.example.coincache.trace.AccessTraceRecorder;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 접근 트레이스 기록/재생
+ * - 상황: 합성 분포(Zipf 등)는 실제 트래픽의 시간대별 쏠림, 갱신/삭제 타이밍을 그대로 담지 못함
+ * - 대응: 서비스 진입점에서 (시각, 종류, 심볼)을 작은 바이너리 파일로 남기고,
+ *        같은 트레이스를 전략/설정마다 원래 간격(또는 배속)으로 재생해 히트율/원천 QPS/지연을 비교
+ */
+@Slf4j
+@DisplayName("접근 트레이스 기록/재생 테스트")
+class AccessTraceTest extends CacheTestSupport {
+
+    @Autowired
+    private AccessTraceRecorder traceRecorder;
+
+    @Autowired
+    private CacheMetrics metrics;
+
+    @Autowired
+    private ReactiveQuoteCacheService reactiveQuoteCacheService;
+
+    @TempDir
+    private Path tempDir;
+
+    @AfterEach
+    void stopRecording() {
+        traceRecorder.stop();
+    }
+
+    /*
+     * 심볼 이름은 처음 한 번만 쓰므로 반복 접근은 레코드당 몇 바이트에 그침
+     * 기록 중 종료로 마지막 레코드가 잘려도 그 앞까지는 읽힘
+     */
+    @Test
+    @DisplayName("트레이스 파일은 이벤트를 순서대로 압축 저장하고 잘린 끝은 무시한다")
+    void traceFile_roundTripsCompactly() throws IOException {
+        List<AccessTraceEvent> events = new ArrayList<>();
+        AccessTraceEvent.Type[] types = AccessTraceEvent.Type.values();
+        for (int i = 0; i < 10_000; i++) {
+            events.add(new AccessTraceEvent(i * 250L, types[i % 10 == 0 ? i / 10 % 3 : 0], "SYM_" + (i % 50)));
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (AccessTraceFile.Writer writer = new AccessTraceFile.Writer(out, 1_700_000_000_000L)) {
+            for (AccessTraceEvent event : events) {
+                writer.write(event);
+            }
+        }
+        byte[] bytes = out.toByteArray();
+
+        assertThat(read(bytes)).containsExactlyElementsOf(events);
+        assertThat(bytes.length).isLessThan(events.size() * 5);
+        assertThat(read(Arrays.copyOf(bytes, bytes.length - 1))).hasSize(events.size() - 1);
+    }
+
+    @Test
+    @DisplayName("서비스 조회/갱신/삭제가 호출 순서대로 기록된다 (논블로킹 조회 포함)")
+    void recorder_capturesServiceCalls() throws IOException {
+        seedSymbols(3, "TRACE_");
+        Path trace = tempDir.resolve("service.trace");
+
+        traceRecorder.start(trace);
+        quoteCacheService.getQuote("TRACE_00000");
+        quoteCacheService.getQuotes(List.of("TRACE_00001", "TRACE_00002"));
+        quoteCacheService.evictCache("TRACE_00000");
+        quoteCacheService.getQuoteWithSingleFlight("TRACE_00000");
+        reactiveQuoteCacheService.getQuoteWithLogicalExpire("TRACE_00001").block();
+        long written = traceRecorder.stop();
+
+        List<AccessTraceEvent> events = AccessTraceFile.readAll(trace);
+        assertThat(written).isEqualTo(6);
+        assertThat(events).extracting(AccessTraceEvent::type).containsExactly(
+                AccessTraceEvent.Type.READ, AccessTraceEvent.Type.READ, AccessTraceEvent.Type.READ,
+                AccessTraceEvent.Type.EVICT, AccessTraceEvent.Type.READ, AccessTraceEvent.Type.READ);
+        assertThat(events).extracting(AccessTraceEvent::symbol).containsExactly(
+                "TRACE_00000", "TRACE_00001", "TRACE_00002", "TRACE_00000", "TRACE_00000", "TRACE_00001");
+        assertThat(events).extracting(AccessTraceEvent::offsetMicros).isSorted();
+    }
+
+    /*
+     * 한 번 기록한 트레이스를 전략마다 같은 캐시 상태(빈 캐시)에서 두 배속으로 재생
+     * 요청 수/종류는 트레이스와 같아야 하고, 원천 호출은 서로 다른 심볼 수를 크게 넘지 않아야 함
+     */
+    @Test
+    @DisplayName("기록한 Zipf 트레이스를 전략별로 재생해 결과를 비교한다")
+    void recordedTrace_replaysPerStrategy() throws IOException, InterruptedException {
+        List<String> symbols = seedSymbols(500, "REPLAY_");
+        WorkloadGenerator generator = new WorkloadGenerator(metrics, repository);
+        Path trace = tempDir.resolve("zipf.trace");
+
+        traceRecorder.start(trace);
+        generator.run(WorkloadSpec.builder()
+                .symbols(symbols)
+                .distribution(KeyDistribution.zipf(symbols.size(), 1.1))
+                .mix(new OperationMix(0.95, 0.04, 0.01))
+                .arrival(WorkloadSpec.Arrival.OPEN_LOOP)
+                .ratePerSecond(1_000)
+                .duration(Duration.ofSeconds(1))
+                .build(), WorkloadTarget.service(quoteCacheService, ReadStrategy.LOCK));
+        traceRecorder.stop();
+
+        List<AccessTraceEvent> events = AccessTraceFile.readAll(trace);
+        log.info("[트레이스] events={}, bytes={}", events.size(), Files.size(trace));
+        assertThat(events).hasSize(1_000);
+        long tracedReads = events.stream().filter(event -> event.type() == AccessTraceEvent.Type.READ).count();
+        long tracedSymbols = events.stream().map(AccessTraceEvent::symbol).distinct().count();
+
+        TraceReplayer replayer = new TraceReplayer(generator);
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            redisTemplate.getConnectionFactory().getConnection().flushAll();
+            nearCache.clear();
+
+            WorkloadReport report = replayer.replay(events, 2.0, WorkloadTarget.service(quoteCacheService, strategy));
+
+            log.info("[트레이스 재생 {}] {}", strategy, report.summary());
+            assertThat(report.operations()).isEqualTo(events.size());
+            assertThat(report.reads()).isEqualTo(tracedReads);
+            assertThat(report.errors()).isZero();
+            assertThat(report.originQueries()).isLessThanOrEqualTo(Math.min(report.reads(), 2 * tracedSymbols));
+        }
+    }
+
+    private static List<AccessTraceEvent> read(byte[] bytes) throws IOException {
+        List<AccessTraceEvent> events = new ArrayList<>();
+        try (AccessTraceFile.Reader reader = new AccessTraceFile.Reader(new ByteArrayInputStream(bytes), null)) {
+            AccessTraceEvent event;
+            while ((event = reader.next()) != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+}
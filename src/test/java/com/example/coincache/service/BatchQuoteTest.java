@@ -0,0 +1,136 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.config.OriginProperties;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.repository.OriginException;
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/*
+ * 다건 조회 (시세 테이블)
+ * - 상황: 50~300개 심볼을 한 화면에 그리면 getQuote를 N번 호출 → Redis 왕복 N번, 락 획득 N번
+ * - 대응: MGET 1회로 읽고, 미스 키만 모아서 락/원천 조회/저장을 각각 한 번에 처리
+ * - 주의: 단건 경로와 같은 규칙(화이트리스트, Null 캐시)을 그대로 지켜야 함
+ */
+@DisplayName("다건 조회 테스트")
+class BatchQuoteTest extends CacheTestSupport {
+
+    @Autowired
+    private OriginProperties originProperties;
+
+    @Autowired
+    private CacheLoadNotifier loadNotifier;
+
+    @Test
+    @DisplayName("다건 조회: 두 번째 호출부터는 원천을 두드리지 않는다")
+    void getQuotes_cachesAllMisses() {
+        List<String> symbols = seedSymbols(200, "TBL");
+        repository.resetQueryCount();
+
+        Map<String, CoinQuote> first = quoteCacheService.getQuotes(symbols);
+        int afterFirst = repository.getQueryCount();
+        nearCache.clear(); // L1이 아니라 Redis(MGET)에서 읽히는지 확인
+        Map<String, CoinQuote> second = quoteCacheService.getQuotes(symbols);
+
+        assertThat(first).hasSize(200);
+        assertThat(second.keySet()).containsExactlyElementsOf(symbols);
+        // 미스 200건이 벌크 조회 1회로 묶임
+        assertThat(afterFirst).isEqualTo(1);
+        assertThat(repository.getQueryCount()).isEqualTo(afterFirst);
+    }
+
+    @Test
+    @DisplayName("다건 조회: 화이트리스트와 Null 캐시는 단건 경로와 같게 동작")
+    void getQuotes_respectsWhitelistAndNullCache() {
+        String missingSymbol = "MISS_TBL";
+        repository.addValidSymbolOnly(missingSymbol);
+        List<String> symbols = List.of("BTC", "ETH", missingSymbol, "BAD_TBL");
+
+        Map<String, CoinQuote> first = quoteCacheService.getQuotes(symbols);
+        Map<String, CoinQuote> second = quoteCacheService.getQuotes(symbols);
+
+        // BAD_TBL은 화이트리스트에서 차단, MISS_TBL은 Null 캐시로 두 번째부터 차단
+        assertThat(first.keySet()).containsExactly("BTC", "ETH");
+        assertThat(second.keySet()).containsExactly("BTC", "ETH");
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다건 조회: 동시 요청에서도 키별 락으로 원천 조회를 제한")
+    void getQuotes_concurrentRequestsShareLocks() throws InterruptedException {
+        List<String> symbols = new ArrayList<>(seedSymbols(50, "TBC"));
+        repository.resetQueryCount();
+
+        runConcurrent(Math.min(1000, dataSize()), Math.min(50, threadCount()), () ->
+                quoteCacheService.getQuotes(symbols)
+        );
+
+        // 원천 조회는 배치 단위로 집계되므로 요청 수보다 훨씬 적어야 함
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(symbols.size());
+    }
+
+    /*
+     * 벌크 원천 조회가 실패하면 잡은 락을 바로 풀고 적재 알림을 보내야 함
+     * (그대로 두면 대기자가 lockTimeoutMs 동안 잠들었다가 한꺼번에 재시도)
+     */
+    @Test
+    @DisplayName("다건 조회: 원천 일괄 조회가 실패하면 락을 풀고 대기자를 깨운다")
+    void getQuotes_originFailure_releasesLocksAndWakesWaiters() {
+        List<String> symbols = seedSymbols(2, "TBF");
+        Map<String, CompletableFuture<Void>> signals = new HashMap<>();
+        symbols.forEach(symbol -> signals.put(symbol, loadNotifier.register(symbol)));
+        OriginProperties.SimulatorProperties simulator = originProperties.getSimulator();
+        double errorRate = simulator.getErrorRate();
+        double timeoutShare = simulator.getTimeoutShare();
+        simulator.setErrorRate(1.0);
+        simulator.setTimeoutShare(0);
+        try {
+            assertThatThrownBy(() -> quoteCacheService.getQuotes(symbols)).isInstanceOf(OriginException.class);
+        } finally {
+            simulator.setErrorRate(errorRate);
+            simulator.setTimeoutShare(timeoutShare);
+        }
+
+        for (String symbol : symbols) {
+            assertThat(redisTemplate.hasKey(QuoteCacheKeys.lockKey(symbol))).isFalse();
+        }
+        assertThat(loadNotifier.awaitAll(signals, 1_000)).isTrue();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /*
+     * 다건 저장은 파이프라인 안에서 EVALSHA로 스크립트를 보냄
+     * - 상황: Redis 재시작/SCRIPT FLUSH로 스크립트 캐시가 비면 파이프라인의 EVALSHA가 모두 NOSCRIPT
+     * - 대응: 스크립트를 적재하고 파이프라인을 한 번 다시 보냄 - 값 저장과 락 해제가 그대로 끝나야 함
+     */
+    @Test
+    @DisplayName("다건 조회: 스크립트 캐시가 비어 있어도 저장하고 락을 푼다")
+    void getQuotes_scriptCacheFlushed_savesAndReleasesLocks() {
+        List<String> symbols = seedSymbols(3, "TBS");
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+
+        Map<String, CoinQuote> quotes = quoteCacheService.getQuotes(symbols);
+
+        assertThat(quotes.keySet()).containsExactlyElementsOf(symbols);
+        for (String symbol : symbols) {
+            assertThat(redisTemplate.hasKey(QuoteCacheKeys.cacheKey(symbol))).isTrue();
+            assertThat(redisTemplate.hasKey(QuoteCacheKeys.lockKey(symbol))).isFalse();
+        }
+    }
+}
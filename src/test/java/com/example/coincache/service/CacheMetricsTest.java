@@ -0,0 +1,101 @@
+package com.example.coincache.service;
+
+import com.example.coincache.controller.QuoteCacheMetricsEndpoint;
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 캐시 경로 메트릭
+ * - 상황: Null 캐시/락/SingleFlight/논리 만료가 운영에서 제대로 동작하는지 DEBUG 로그로만 확인 가능
+ * - 대응: 전략(strategy) x 결과(outcome) 카운터와 Redis/원천 지연 타이머를 Micrometer로 노출
+ *
+ * 카운터는 컨텍스트 안에서 누적되므로 테스트 전후 차이로 확인
+ * 원천 지연(80ms)을 둬서 동시 미스가 실제로 락 대기/합류 경로를 타게 함
+ */
+@DisplayName("캐시 경로 메트릭 테스트")
+@TestPropertySource(properties = "repository.latency-ms=80")
+class CacheMetricsTest extends CacheTestSupport {
+
+    @Autowired
+    private CacheMetrics metrics;
+
+    @Autowired
+    private QuoteCacheMetricsEndpoint endpoint;
+
+    @Test
+    @DisplayName("미스 -> 락 획득 -> 히트, 없는 데이터는 Null 히트로 집계된다")
+    void lockStrategy_countsMissLockAndHits() {
+        repository.addValidSymbolOnly("MET_MISSING");
+        Map<CacheOutcome, Long> before = snapshot(ReadStrategy.LOCK);
+        long originBefore = metrics.originTimer().count();
+
+        quoteCacheService.getQuote("BTC");
+        quoteCacheService.getQuote("BTC");
+        quoteCacheService.getQuote("MET_MISSING");
+        quoteCacheService.getQuote("MET_MISSING");
+
+        Map<CacheOutcome, Long> delta = delta(ReadStrategy.LOCK, before);
+        assertThat(delta.get(CacheOutcome.MISS)).isEqualTo(2);
+        assertThat(delta.get(CacheOutcome.LOCK_ACQUIRED)).isEqualTo(2);
+        assertThat(delta.get(CacheOutcome.HIT)).isEqualTo(1);
+        assertThat(delta.get(CacheOutcome.NULL_HIT)).isEqualTo(1);
+        assertThat(metrics.originTimer().count() - originBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시 미스는 락 대기와 SingleFlight 합류로 집계된다")
+    void concurrentMisses_countWaitersAndJoiners() throws InterruptedException {
+        Map<CacheOutcome, Long> lockBefore = snapshot(ReadStrategy.LOCK);
+        Map<CacheOutcome, Long> flightBefore = snapshot(ReadStrategy.SINGLE_FLIGHT);
+
+        runConcurrent(50, 50, () -> quoteCacheService.getQuoteWithDistributedLock("ETH"));
+        runConcurrent(50, 50, () -> quoteCacheService.getQuoteWithSingleFlight("SOL"));
+
+        Map<CacheOutcome, Long> lock = delta(ReadStrategy.LOCK, lockBefore);
+        assertThat(lock.get(CacheOutcome.LOCK_ACQUIRED)).isEqualTo(1);
+        assertThat(lock.get(CacheOutcome.LOCK_WAITED)).isPositive();
+        assertThat(lock.get(CacheOutcome.HIT) + lock.get(CacheOutcome.MISS)).isEqualTo(50);
+
+        Map<CacheOutcome, Long> flight = delta(ReadStrategy.SINGLE_FLIGHT, flightBefore);
+        assertThat(flight.get(CacheOutcome.SINGLEFLIGHT_JOINED)).isPositive();
+        assertThat(flight.get(CacheOutcome.HIT) + flight.get(CacheOutcome.MISS)).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("Actuator 엔드포인트는 전략별 결과와 지연 요약을 보여준다")
+    @SuppressWarnings("unchecked")
+    void endpoint_exposesCountsAndLatency() {
+        quoteCacheService.getQuoteWithLogicalExpire("XRP");
+
+        Map<String, Object> summary = endpoint.summary();
+
+        Map<String, Map<String, Long>> requests = (Map<String, Map<String, Long>>) summary.get("requests");
+        assertThat(requests).containsOnlyKeys("lock", "single-flight", "logical-expire");
+        assertThat(requests.get("logical-expire")).containsKeys("miss", "stale-served", "refresh-triggered");
+        assertThat(requests.get("logical-expire").get("miss")).isPositive();
+        assertThat((Map<String, Object>) summary.get("redis")).containsKeys("count", "meanMs", "maxMs");
+        assertThat((Map<String, Object>) summary.get("origin")).containsKeys("count", "meanMs", "maxMs");
+    }
+
+    private Map<CacheOutcome, Long> snapshot(ReadStrategy strategy) {
+        Map<CacheOutcome, Long> counts = new EnumMap<>(CacheOutcome.class);
+        for (CacheOutcome outcome : CacheOutcome.values()) {
+            counts.put(outcome, metrics.count(strategy, outcome));
+        }
+        return counts;
+    }
+
+    private Map<CacheOutcome, Long> delta(ReadStrategy strategy, Map<CacheOutcome, Long> before) {
+        Map<CacheOutcome, Long> counts = snapshot(strategy);
+        counts.replaceAll((outcome, count) -> count - before.get(outcome));
+        return counts;
+    }
+}
@@ -1,13 +1,28 @@
 package com.example.coincache.service;
 
+import com.example.coincache.cache.BlockedBloomFilter;
 import com.example.coincache.cache.BloomFilter;
+import com.example.coincache.cache.BloomFilterFile;
+import com.example.coincache.cache.ConcurrentBloomFilter;
+import com.example.coincache.cache.CuckooFilter;
+import com.example.coincache.cache.MappedBloomFilter;
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.cache.RedisBloomFilter;
 import com.example.coincache.support.CacheTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /*
  * Cache Penetration (캐시 관통)
@@ -22,6 +37,12 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("Cache Penetration 대응 테스트")
 class CachePenetrationTest extends CacheTestSupport {
 
+    @Autowired
+    private RedisBloomFilter redisSymbolFilter;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
     /*
      * 대응 방식: 유효 심볼 목록을 미리 보유하고 즉시 차단
      * 일반적으로 심볼/상품/카테고리가 명확할 때 가장 많이 씀
@@ -29,7 +50,7 @@ class CachePenetrationTest extends CacheTestSupport {
      * 단점: 목록을 항상 최신으로 유지해야 함
      *      신규 심볼이 자주 생기면 배포/동기화 주기가 늦어지는 순간에 정상 요청도 막힐 수 있음
      *
-     * 원천 조회가 0인지로 방어 효과를 확인
+     * 원천 조회가 0인지로 방어 효과를 확인 (getQuote 기본 경로는 Bloom Filter라 정확 목록을 직접 주입)
      */
     @Test
     @DisplayName("화이트리스트: 유효하지 않은 심볼을 즉시 차단")
@@ -39,7 +60,7 @@ class CachePenetrationTest extends CacheTestSupport {
 
         // 실행: 잘못된 심볼로 반복 요청을 발생
         for (String symbol : invalidSymbols) {
-            quoteCacheService.getQuote(symbol);
+            quoteCacheService.getQuoteWithSymbolFilter(symbol, repository::existsSymbol);
         }
 
         // 검증: 원천 조회가 발생하지 않았는지 확인
@@ -102,6 +123,27 @@ class CachePenetrationTest extends CacheTestSupport {
         assertThat(repository.getQueryCount()).isLessThanOrEqualTo(allowed);
     }
 
+    /*
+     * 블록 Bloom Filter는 k개 비트를 캐시 라인 하나에 모아 조회 비용을 줄이는 대신 FPP가 조금 높음
+     * 같은 허용치 안에서 걸러내는지 확인
+     */
+    @Test
+    @DisplayName("블록 Bloom Filter: 대부분의 잘못된 요청을 사전에 걸러냄")
+    void blockedBloomFilter_blocksMostInvalidRequests() {
+        List<String> validSymbols = seedSymbols(dataSize(), "VAL");
+        BlockedBloomFilter bloomFilter = BlockedBloomFilter.from(validSymbols, 0.01d);
+        repository.resetQueryCount();
+
+        List<String> invalidSymbols = generateSymbols("BAD", dataSize());
+        for (String symbol : invalidSymbols) {
+            quoteCacheService.getQuoteWithSymbolFilter(symbol, bloomFilter::mightContain);
+        }
+
+        int allowed = (int) (dataSize() * 0.03) + 5;
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(allowed);
+        assertThat(validSymbols).allMatch(bloomFilter::mightContain);
+    }
+
     /*
      * - 시나리오: Bloom Filter 갱신이 늦어지면 새 심볼이 막힌다
      * - 운영에서 신규 상품/심볼이 자주 생기면 BF를 롤링 리빌드/교체하지 않으면 false negative처럼 보이는 사고가 난다
@@ -136,4 +178,164 @@ class CachePenetrationTest extends CacheTestSupport {
         quoteCacheService.getQuoteWithSymbolFilter(newSymbol, rebuiltFilter::mightContain);
         assertThat(repository.getQueryCount()).isEqualTo(1);
     }
+
+    /*
+     * - 시나리오: 리빌드 대신 트래픽 중에 신규 심볼을 필터에 바로 추가
+     * - 여러 스레드가 동시에 put/mightContain 해도 put이 끝난 심볼은 항상 통과해야 함 (False Negative 없음)
+     */
+    @Test
+    @DisplayName("동시 Bloom Filter: 트래픽 중 추가한 심볼을 바로 통과시킨다")
+    void concurrentBloomFilter_acceptsSymbolsAddedUnderTraffic() throws InterruptedException {
+        // 준비: 초기 유효 키로 필터를 만들고, 여유 용량을 두고 시작
+        List<String> validSymbols = seedSymbols(1000, "VAL");
+        ConcurrentBloomFilter filter = new ConcurrentBloomFilter(5000, 0.01d);
+        validSymbols.forEach(filter::put);
+
+        // 실행: 각 작업이 신규 심볼을 추가하고 즉시 조회, 동시에 기존 심볼도 조회
+        AtomicInteger sequence = new AtomicInteger();
+        AtomicInteger falseNegatives = new AtomicInteger();
+        runConcurrent(2000, 16, () -> {
+            int n = sequence.getAndIncrement();
+            String newSymbol = "NEW_" + n;
+            filter.put(newSymbol);
+            if (!filter.mightContain(newSymbol) || !filter.mightContain(validSymbols.get(n % validSymbols.size()))) {
+                falseNegatives.incrementAndGet();
+            }
+        });
+
+        // 검증: 추가된 심볼과 기존 심볼 모두 빠짐없이 통과
+        assertThat(falseNegatives.get()).isZero();
+        for (int i = 0; i < 2000; i++) {
+            assertThat(filter.mightContain("NEW_" + i)).isTrue();
+        }
+    }
+
+    /*
+     * 다른 노드에서 받은 필터를 같은 모양(크기/해시 수)이면 교체 없이 합친다
+     */
+    @Test
+    @DisplayName("동시 Bloom Filter: 같은 모양의 필터를 합치면 양쪽 심볼이 모두 통과한다")
+    void concurrentBloomFilter_unionContainsBothSides() {
+        ConcurrentBloomFilter left = new ConcurrentBloomFilter(1000, 0.01d);
+        ConcurrentBloomFilter right = new ConcurrentBloomFilter(1000, 0.01d);
+        generateSymbols("LEFT", 500).forEach(left::put);
+        generateSymbols("RIGHT", 500).forEach(right::put);
+
+        left.putAll(right);
+
+        assertThat(generateSymbols("LEFT", 500)).allMatch(left::mightContain);
+        assertThat(generateSymbols("RIGHT", 500)).allMatch(left::mightContain);
+        assertThatThrownBy(() -> left.putAll(new ConcurrentBloomFilter(10, 0.01d)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /*
+     * - 시나리오: 인스턴스마다 필터를 따로 만들면 메모리가 중복되고 신규 심볼 반영 시점이 어긋남
+     * - 대응: 오프라인으로 만든 필터를 Redis 비트맵으로 SET 한 번에 올리고, 모든 인스턴스가 같은 비트맵을 조회
+     * - 한 인스턴스의 put이 다른 인스턴스 조회에 바로 보이는지 확인
+     */
+    @Test
+    @DisplayName("Redis 공유 Bloom Filter: 적재한 필터로 차단하고, 다른 인스턴스의 추가가 바로 보인다")
+    void redisBloomFilter_sharedAcrossInstances() {
+        // 준비: 오프라인 빌드 후 적재
+        List<String> validSymbols = seedSymbols(dataSize(), "VAL");
+        BloomFilter offline = redisSymbolFilter.newLocalFilter();
+        validSymbols.forEach(offline::put);
+        redisSymbolFilter.load(offline);
+        repository.resetQueryCount();
+
+        // 실행/검증: 유효 심볼은 모두 통과, 잘못된 심볼은 로컬 필터와 같은 판정
+        assertThat(validSymbols.subList(0, 500)).allMatch(redisSymbolFilter::mightContain);
+        for (String symbol : generateSymbols("BAD", 1000)) {
+            assertThat(redisSymbolFilter.mightContain(symbol)).isEqualTo(offline.mightContain(symbol));
+            quoteCacheService.getQuoteWithSymbolFilter(symbol, redisSymbolFilter::mightContain);
+        }
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(35);
+
+        // 다른 인스턴스(같은 설정의 별도 객체)에서 신규 심볼 추가
+        RedisBloomFilter otherInstance = new RedisBloomFilter(stringRedisTemplate, QuoteCacheKeys.SYMBOL_FILTER_KEY,
+                100_000, 0.01d);
+        assertThat(otherInstance.put("VAL_LISTED_NOW")).isTrue();
+        assertThat(redisSymbolFilter.mightContain("VAL_LISTED_NOW")).isTrue();
+    }
+
+    /*
+     * 비트맵이 없을 때(적재 전/Redis 초기화 직후) 전부 막으면 장애이므로 통과시키고, put도 부분 필터를 만들지 않음
+     */
+    @Test
+    @DisplayName("Redis 공유 Bloom Filter: 적재 전에는 막지 않는다")
+    void redisBloomFilter_passesWhenNotLoaded() {
+        assertThat(redisSymbolFilter.isLoaded()).isFalse();
+        assertThat(redisSymbolFilter.mightContain("ANY")).isTrue();
+        assertThat(redisSymbolFilter.put("ANY")).isFalse();
+        assertThat(redisSymbolFilter.isLoaded()).isFalse();
+    }
+
+    /*
+     * - 시나리오: 재시작 때마다 원천에서 전체 심볼을 읽어 필터를 만들면 콜드 스타트가 느림
+     * - 대응: 필터 스냅샷을 파일로 두고 매핑해서 바로 사용 (원천 조회 0)
+     * - 헤더(해시 버전 등)가 다르면 잘못된 비트로 차단하지 않도록 거절
+     */
+    @Test
+    @DisplayName("Bloom Filter 스냅샷: 매핑한 필터가 원천 조회 없이 같은 판정을 한다")
+    void bloomFilterSnapshot_mapsWithoutOrigin(@TempDir Path dir) throws IOException {
+        // 준비: 필터를 만들어 스냅샷으로 저장 (같은 경로 덮어쓰기도 rename 교체)
+        List<String> validSymbols = seedSymbols(dataSize(), "VAL");
+        BloomFilter original = BloomFilter.from(validSymbols, 0.01d);
+        Path snapshot = dir.resolve("symbols.bloom");
+        BloomFilterFile.write(original, snapshot);
+        BloomFilterFile.write(original, snapshot);
+        repository.resetQueryCount();
+
+        // 실행: 재시작한 인스턴스처럼 파일만 매핑
+        MappedBloomFilter mapped = BloomFilterFile.map(snapshot);
+
+        // 검증: 원천 조회 없이 원본과 같은 판정
+        assertThat(repository.getQueryCount()).isZero();
+        assertThat(validSymbols).allMatch(mapped::mightContain);
+        for (String symbol : generateSymbols("BAD", 1000)) {
+            assertThat(mapped.mightContain(symbol)).isEqualTo(original.mightContain(symbol));
+        }
+        try (var files = Files.list(dir)) {
+            assertThat(files).containsExactly(snapshot);
+        }
+
+        // 해시 버전이 다른 파일은 거절
+        byte[] corrupted = Files.readAllBytes(snapshot);
+        corrupted[11] ^= 0x7F;
+        Files.write(snapshot, corrupted);
+        assertThatThrownBy(() -> BloomFilterFile.map(snapshot))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("hash version");
+    }
+
+    /*
+     * - 시나리오: 일반 Bloom Filter는 상장 폐지 심볼을 지울 수 없어 죽은 심볼 요청이 계속 원천으로 감
+     * - 대응: 추가/삭제가 되는 Cuckoo Filter를 같은 심볼 필터 자리에 사용
+     * - 신규 상장은 리빌드 없이 add, 상장 폐지는 delete로 바로 반영
+     */
+    @Test
+    @DisplayName("Cuckoo Filter: 신규 심볼은 추가하고 상장 폐지 심볼은 지워서 차단한다")
+    void cuckooFilter_addsListedAndDeletesDelistedSymbols() {
+        // 준비: 유효 심볼로 필터 구성
+        List<String> validSymbols = seedSymbols(1000, "VAL");
+        CuckooFilter filter = CuckooFilter.from(validSymbols, 0.01d);
+        String delisted = validSymbols.get(0);
+        String listed = "VAL_NEW";
+        repository.updateQuote(listed, newQuote(listed));
+        repository.resetQueryCount();
+
+        // 실행: 신규 상장 추가, 상장 폐지 삭제
+        assertThat(filter.add(listed)).isTrue();
+        assertThat(filter.delete(delisted)).isTrue();
+
+        // 검증: 신규 심볼은 원천까지 가고, 폐지 심볼은 반복 요청해도 원천에 닿지 않음
+        quoteCacheService.getQuoteWithSymbolFilter(listed, filter::mightContain);
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+        for (int i = 0; i < 100; i++) {
+            quoteCacheService.getQuoteWithSymbolFilter(delisted, filter::mightContain);
+        }
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+        assertThat(validSymbols.subList(1, validSymbols.size())).allMatch(filter::mightContain);
+    }
 }
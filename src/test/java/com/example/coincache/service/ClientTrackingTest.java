@@ -0,0 +1,116 @@
+package com.example.coincache.service;
+
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.support.CacheTestSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/*
+ * L1 서버 지원 무효화 (CLIENT TRACKING)
+ * - 상황: L1 TTL을 짧게 잡으면 히트율이 떨어지고, 길게 잡으면 다른 노드의 갱신/삭제가 늦게 보임
+ * - 대응: Redis가 quotes:* 변경을 푸시로 알려주면 그때 지우고, 그 전까지는 Redis TTL만큼 보관
+ *
+ * 다른 노드가 쓴 것처럼 별도 연결로 SET/DEL 한 뒤, L1에서 사라지기까지의 지연(무효화 지연)을 측정
+ */
+@Slf4j
+@DisplayName("L1 서버 무효화(CLIENT TRACKING) 테스트")
+class ClientTrackingTest extends CacheTestSupport {
+
+    private static final long MAX_LAG_MS = 100;
+
+    @BeforeEach
+    void requireTracking() {
+        assumeTrue(nearCache.isInvalidationTracked(), "RESP3 CLIENT TRACKING을 지원하지 않는 Redis");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 갱신은 L1에서 바로 무효화된다")
+    void remoteUpdate_invalidatesLocalCopy() {
+        int rounds = 200;
+        long[] lagsNanos = new long[rounds];
+
+        for (int i = 0; i < rounds; i++) {
+            warmUp("BTC");
+            CoinQuote updated = newQuote("BTC", new BigDecimal(70_000 + i));
+
+            long start = System.nanoTime();
+            redisTemplate.opsForValue().set("quotes:BTC", updated, Duration.ofMinutes(1));
+            lagsNanos[i] = awaitInvalidation("quotes:BTC") - start;
+
+            assertThat(quoteCacheService.getQuote("BTC"))
+                    .hasValueSatisfying(quote -> assertThat(quote.getPrice()).isEqualByComparingTo(updated.getPrice()));
+        }
+
+        Arrays.sort(lagsNanos);
+        log.info("[무효화 지연] p50={} ms, p99={} ms, max={} ms",
+                lagsNanos[rounds / 2] / 1_000_000d,
+                lagsNanos[(int) Math.ceil(rounds * 0.99) - 1] / 1_000_000d,
+                lagsNanos[rounds - 1] / 1_000_000d);
+        assertThat(lagsNanos[rounds - 1]).isLessThan(Duration.ofMillis(MAX_LAG_MS).toNanos());
+    }
+
+    @Test
+    @DisplayName("다른 노드의 삭제도 L1에서 바로 무효화된다")
+    void remoteDelete_invalidatesLocalCopy() {
+        warmUp("ETH");
+
+        long start = System.nanoTime();
+        redisTemplate.delete("quotes:ETH");
+        long lagNanos = awaitInvalidation("quotes:ETH") - start;
+
+        log.info("[삭제 무효화 지연] {} ms", lagNanos / 1_000_000d);
+        assertThat(lagNanos).isLessThan(Duration.ofMillis(MAX_LAG_MS).toNanos());
+    }
+
+    /*
+     * 추적 중에는 설정 TTL(테스트 3초)과 무관하게 Redis 만료 시점까지만 보관
+     */
+    @Test
+    @DisplayName("Redis 만료 시 L1 복사본도 함께 사라진다")
+    void expiry_invalidatesLocalCopy() throws InterruptedException {
+        String symbol = "TRACK_EXP";
+        repository.updateQuote(symbol, newQuote(symbol, new BigDecimal("1.00")));
+        redisTemplate.opsForValue().set("quotes:" + symbol, newQuote(symbol, new BigDecimal("1.00")),
+                Duration.ofMillis(300));
+        warmUp(symbol);
+
+        Thread.sleep(300);
+        awaitInvalidation("quotes:" + symbol);
+
+        assertThat(quoteCacheService.getQuote(symbol)).isPresent();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /*
+     * 자기 쓰기에 대한 무효화 알림까지 지나간 뒤 L1에 올라온 상태를 만듦
+     */
+    private void warmUp(String symbol) {
+        String cacheKey = "quotes:" + symbol;
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (nearCache.get(cacheKey) == null) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            quoteCacheService.getQuote(symbol);
+        }
+    }
+
+    /**
+     * @return L1에서 키가 사라진 시각 (nanoTime)
+     */
+    private long awaitInvalidation(String cacheKey) {
+        long deadline = System.nanoTime() + Duration.ofSeconds(1).toNanos();
+        while (nearCache.get(cacheKey) != null) {
+            assertThat(System.nanoTime()).as("L1 무효화 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+        return System.nanoTime();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.coincache.service;
+
+import com.example.coincache.controller.LatencyController;
+import com.example.coincache.support.CacheTestSupport;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 구간별 지연 히스토그램
+ * - 상황: 평균 타이머로는 waitAndRetry/SingleFlight 대기가 만드는 수백 ms 꼬리가 묻힘
+ * - 대응: 전략 x hot/cold x 구간(Redis 읽기/디코딩/락/원천/적재/전체)별 HdrHistogram에 기록하고
+ *        구간 스냅샷의 p50/p99/p999/max로 어느 구간이 꼬리를 만드는지 확인
+ *
+ * 테스트 설정은 자동 스냅샷을 끄고(snapshot-interval-seconds=0) rotate()로 구간을 직접 자름
+ */
+@Slf4j
+@DisplayName("구간별 지연 히스토그램 테스트")
+@TestPropertySource(properties = "repository.latency-ms=80")
+class LatencyRecorderTest extends CacheTestSupport {
+
+    @Autowired
+    private LatencyRecorder latencyRecorder;
+
+    @Autowired
+    private LatencyController latencyController;
+
+    @BeforeEach
+    void startInterval() {
+        latencyRecorder.rotate();
+    }
+
+    @Test
+    @DisplayName("미스 한 번은 락/원천/적재 구간을 한 번씩 남기고, 심볼은 hot/cold로 나뉜다")
+    @SuppressWarnings("unchecked")
+    void lockMiss_recordsEachStageOnce() {
+        repository.addValidSymbolOnly("LAT_COLD");
+
+        quoteCacheService.getQuote("BTC");
+        quoteCacheService.getQuote("BTC");
+        quoteCacheService.getQuote("LAT_COLD");
+
+        latencyRecorder.rotate();
+        LatencyRecorder.Snapshot snapshot = latencyRecorder.intervalSnapshot();
+        assertThat(count(snapshot, SymbolClass.HOT, LatencyStage.TOTAL)).isEqualTo(2);
+        assertThat(count(snapshot, SymbolClass.HOT, LatencyStage.LOCK_ACQUIRE)).isEqualTo(1);
+        assertThat(count(snapshot, SymbolClass.HOT, LatencyStage.ORIGIN_FETCH)).isEqualTo(1);
+        assertThat(count(snapshot, SymbolClass.HOT, LatencyStage.CACHE_WRITE)).isEqualTo(1);
+        assertThat(count(snapshot, SymbolClass.COLD, LatencyStage.TOTAL)).isEqualTo(1);
+        assertThat(snapshot.histogram(ReadStrategy.LOCK, SymbolClass.HOT, LatencyStage.ORIGIN_FETCH)
+                .getMaxValue()).isGreaterThanOrEqualTo(70_000_000L);
+
+        Map<String, Object> interval = (Map<String, Object>) latencyController.latency().get("interval");
+        Map<String, Map<String, Map<String, Object>>> strategies =
+                (Map<String, Map<String, Map<String, Object>>>) interval.get("strategies");
+        assertThat(strategies.get("lock").get("hot")).containsKeys("total", "origin-fetch", "lock-acquire");
+        assertThat((Map<String, Object>) strategies.get("lock").get("hot").get("total"))
+                .containsKeys("count", "p50Ms", "p99Ms", "p999Ms", "maxMs");
+    }
+
+    /*
+     * 합류한 요청의 대기가 꼬리를 만들고, Redis 읽기 자체는 짧음
+     */
+    @Test
+    @DisplayName("SingleFlight 합류 대기는 lock-acquire 구간의 꼬리로 드러난다")
+    void singleFlightJoiners_showUpInLockAcquireTail() throws InterruptedException {
+        runConcurrent(50, 50, () -> quoteCacheService.getQuoteWithSingleFlight("SOL"));
+
+        latencyRecorder.rotate();
+        LatencyRecorder.Snapshot snapshot = latencyRecorder.intervalSnapshot();
+        Histogram joinWait = snapshot.histogram(ReadStrategy.SINGLE_FLIGHT, SymbolClass.HOT, LatencyStage.LOCK_ACQUIRE);
+        Histogram total = snapshot.histogram(ReadStrategy.SINGLE_FLIGHT, SymbolClass.HOT, LatencyStage.TOTAL);
+
+        log.info("[SingleFlight 지연] 합류 대기 p99={} ms, 전체 p50={} ms / p99={} ms",
+                joinWait.getValueAtPercentile(99) / 1_000_000d,
+                total.getValueAtPercentile(50) / 1_000_000d,
+                total.getValueAtPercentile(99) / 1_000_000d);
+        assertThat(total.getTotalCount()).isEqualTo(50);
+        assertThat(joinWait.getTotalCount()).isPositive();
+        assertThat(joinWait.getValueAtPercentile(99)).isGreaterThanOrEqualTo(40_000_000L);
+    }
+
+    private long count(LatencyRecorder.Snapshot snapshot, SymbolClass symbolClass, LatencyStage stage) {
+        return snapshot.histogram(ReadStrategy.LOCK, symbolClass, stage).getTotalCount();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.coincache.service;
+
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 락 해제 알림 (Pub/Sub)
+ * - 상황: 락을 못 잡은 요청이 고정 시간(락 TTL의 절반) 자고 다시 읽음
+ *        원천 조회가 그보다 오래 걸리면 깨어난 대기자 전원이 캐시 미스 -> 원천 직접 조회 (스탬피드 재발)
+ * - 대응: 락 보유자가 적재 후 채널로 알리고, 대기자는 알림(또는 락 TTL)까지 기다렸다가 재조회
+ *        재조회도 미스면 원천이 아니라 락 획득부터 다시 시도
+ */
+@DisplayName("락 해제 알림 테스트")
+@TestPropertySource(properties = "repository.latency-ms=80")
+class LockNotificationTest extends CacheTestSupport {
+
+    @Autowired
+    private ReactiveQuoteCacheService reactiveQuoteCacheService;
+
+    @Autowired
+    private CacheLoadNotifier loadNotifier;
+
+    /*
+     * 원천 지연(80ms)이 예전 고정 대기(50ms)보다 길어도 원천 조회는 1회
+     */
+    @Test
+    @DisplayName("대기자는 적재 완료 알림을 받고 캐시에서 읽는다")
+    void waiters_wakeOnLoadNotification() throws InterruptedException {
+        AtomicInteger misses = new AtomicInteger();
+
+        runConcurrent(threadCount(), threadCount(), () -> {
+            Optional<?> quote = quoteCacheService.getQuoteWithDistributedLock("BTC");
+            if (quote.isEmpty()) {
+                misses.incrementAndGet();
+            }
+        });
+
+        assertThat(misses.get()).isZero();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /*
+     * 저장과 락 해제가 스크립트 하나로 처리되므로, 락이 사라진 시점에는 값(또는 Null 마커)이 이미 있어야 함
+     */
+    @Test
+    @DisplayName("락 보유자는 값 저장과 락 해제를 함께 끝낸다")
+    void lockHolder_savesAndReleasesAtomically() {
+        repository.addValidSymbolOnly("NTF_MISSING");
+
+        assertThat(quoteCacheService.getQuoteWithDistributedLock("BTC")).isPresent();
+        assertThat(quoteCacheService.getQuoteWithDistributedLock("NTF_MISSING")).isEmpty();
+
+        assertThat(redisTemplate.hasKey("lock:quotes:BTC")).isFalse();
+        assertThat(redisTemplate.getExpire("quotes:BTC")).isPositive();
+        assertThat(redisTemplate.hasKey("lock:quotes:NTF_MISSING")).isFalse();
+        assertThat(redisTemplate.opsForValue().get("quotes:NTF_MISSING")).isEqualTo("__NULL__");
+    }
+
+    @Test
+    @DisplayName("배치 조회 대기자도 알림으로 깨어난다")
+    void batchWaiters_wakeOnLoadNotification() throws InterruptedException {
+        List<String> symbols = seedSymbols(20, "NTF");
+        repository.resetQueryCount();
+        AtomicInteger partial = new AtomicInteger();
+
+        runConcurrent(threadCount(), threadCount(), () -> {
+            if (quoteCacheService.getQuotes(symbols).size() != symbols.size()) {
+                partial.incrementAndGet();
+            }
+        });
+
+        assertThat(partial.get()).isZero();
+        // 락 보유자가 나뉘어도 키마다 원천 적재는 1번이므로 벌크 조회 수는 키 수를 넘지 않음
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(symbols.size());
+    }
+
+    @Test
+    @DisplayName("리액티브 대기자도 알림으로 깨어난다")
+    void reactiveWaiters_wakeOnLoadNotification() throws InterruptedException {
+        AtomicInteger misses = new AtomicInteger();
+
+        runConcurrent(threadCount(), threadCount(), () -> {
+            Optional<?> quote = reactiveQuoteCacheService.getQuoteWithDistributedLock("ETH").block();
+            if (quote == null || quote.isEmpty()) {
+                misses.incrementAndGet();
+            }
+        });
+
+        assertThat(misses.get()).isZero();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /*
+     * 신호가 끝내 오지 않으면(보유자 장애) 대기 항목이 남지 않고, 다음 대기자는 새 Future를 받음
+     */
+    @Test
+    @DisplayName("신호 없이 타임아웃된 대기는 등록이 해제된다")
+    void await_timeout_unregistersSignal() {
+        CompletableFuture<Void> signal = loadNotifier.register("NTF_TIMEOUT");
+
+        assertThat(loadNotifier.await("NTF_TIMEOUT", signal, 20)).isFalse();
+
+        assertThat(loadNotifier.register("NTF_TIMEOUT")).isNotSameAs(signal);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.coincache.service;
+
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.RedisCallback;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 논리 만료 읽기 스크립트
+ * - 상황: GET -> 값 전체 역직렬화 -> isExpired() -> (만료면) SET NX 로 stale 경로가 2~3 RTT
+ * - 대응: 해시 {v, e}로 저장하고, 스크립트 1회로 값/stale 여부/갱신 락 획득 여부를 함께 받음
+ *        Redis가 e 필드만 비교하므로 값 디코딩 없이 판정
+ */
+@DisplayName("논리 만료 읽기 스크립트 테스트")
+class LogicalExpireReadTest extends CacheTestSupport {
+
+    @Test
+    @DisplayName("논리 만료 엔트리는 값과 만료 시각을 필드로 나눠 저장한다")
+    void entry_storedAsHashWithExpireAt() {
+        String symbol = "LX_HASH";
+        long before = System.currentTimeMillis();
+        quoteCacheService.cacheQuoteWithLogicalExpire(symbol, newQuote(symbol));
+
+        String cacheKey = "quotes:logical:" + symbol;
+        assertThat(redisTemplate.type(cacheKey)).isEqualTo(DataType.HASH);
+        byte[] expireAt = redisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.hashCommands().hGet(cacheKey.getBytes(), "e".getBytes()));
+        assertThat(Long.parseLong(new String(expireAt))).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("만료된 엔트리는 stale 값을 주고 갱신은 한 번만 한다")
+    void staleRead_returnsValueAndRefreshesOnce() throws InterruptedException {
+        String symbol = "LX_STALE";
+        repository.updateQuote(symbol, newQuote(symbol));
+        quoteCacheService.cacheQuoteWithLogicalExpire(symbol, newQuote(symbol));
+        repository.resetQueryCount();
+        nearCache.clear();
+
+        Thread.sleep(2200);
+
+        for (int i = 0; i < 50; i++) {
+            assertThat(quoteCacheService.getQuoteWithLogicalExpire(symbol)).isPresent();
+        }
+        Thread.sleep(300);
+
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /*
+     * 이전 포맷(문자열 값)이 남아 있으면 미스로 보고 새 포맷으로 다시 적재
+     */
+    @Test
+    @DisplayName("이전 포맷 값은 미스로 처리되어 새 포맷으로 다시 적재된다")
+    void legacyStringValue_isReloaded() {
+        String symbol = "LX_LEGACY";
+        repository.updateQuote(symbol, newQuote(symbol));
+        repository.resetQueryCount();
+        redisTemplate.opsForValue().set("quotes:logical:" + symbol, newQuote(symbol));
+
+        Optional<CoinQuote> quote = quoteCacheService.getQuoteWithLogicalExpire(symbol);
+
+        assertThat(quote).isPresent();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+        assertThat(redisTemplate.type("quotes:logical:" + symbol)).isEqualTo(DataType.HASH);
+    }
+}
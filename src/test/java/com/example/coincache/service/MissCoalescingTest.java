@@ -0,0 +1,64 @@
+package com.example.coincache.service;
+
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 미스 합치기 (Batch Loader)
+ * - 상황: 애벌랜치 때는 "서로 다른" 키 수백 개가 몇 ms 안에 동시에 미스남
+ *        SingleFlight는 같은 키만 합치므로 원천 조회 수는 키 수만큼 그대로 남음
+ * - 대응: 짧은 윈도우(2ms / 64키) 동안 미스를 모아서 원천 벌크 조회 1회로 보냄
+ * - 단점: 미스 경로에 최대 윈도우만큼 지연이 추가됨
+ */
+@DisplayName("미스 합치기(배치 로더) 테스트")
+@TestPropertySource(properties = {
+        "cache.quotes.batch-loader.enabled=true",
+        "repository.latency-ms=20"
+})
+class MissCoalescingTest extends CacheTestSupport {
+
+    @Test
+    @DisplayName("배치 로더: 서로 다른 키의 동시 미스를 벌크 조회로 묶는다")
+    void batchLoader_coalescesMissesAcrossSymbols() throws InterruptedException {
+        List<String> symbols = seedSymbols(Math.min(1000, dataSize()), "COL");
+        repository.resetQueryCount();
+
+        // 모든 키가 동시에 만료된 상황을 가정하고, 키마다 한 번씩 동시에 조회
+        AtomicInteger cursor = new AtomicInteger();
+        runConcurrent(symbols.size(), threadCount(), () ->
+                quoteCacheService.getQuoteWithSingleFlight(symbols.get(cursor.getAndIncrement()))
+        );
+
+        // 키별로 원천을 두드렸다면 symbols.size()회, 배치로 묶이면 한 자릿수 배 이상 줄어야 함
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(symbols.size() / 10);
+    }
+
+    @Test
+    @DisplayName("배치 로더: 각 요청은 자기 심볼의 결과를 받는다")
+    void batchLoader_returnsPerWaiterResults() throws InterruptedException {
+        List<String> symbols = seedSymbols(200, "COR");
+        repository.addValidSymbolOnly("COR_MISSING");
+        AtomicInteger mismatches = new AtomicInteger();
+
+        AtomicInteger cursor = new AtomicInteger();
+        runConcurrent(symbols.size(), Math.min(100, threadCount()), () -> {
+            String symbol = symbols.get(cursor.getAndIncrement());
+            boolean matched = quoteCacheService.getQuote(symbol)
+                    .map(quote -> quote.getSymbol().equals(symbol))
+                    .orElse(false);
+            if (!matched) {
+                mismatches.incrementAndGet();
+            }
+        });
+
+        assertThat(mismatches.get()).isZero();
+        assertThat(quoteCacheService.getQuote("COR_MISSING")).isEmpty();
+    }
+}
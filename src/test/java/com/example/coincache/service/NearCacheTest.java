@@ -0,0 +1,74 @@
+package com.example.coincache.service;
+
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+/*
+ * Near Cache (로컬 L1)
+ * - 상황: BTC/ETH 같은 핫 심볼은 초당 수만 번 조회되는데, 매번 Redis GET + 역직렬화 비용을 냄
+ * - 대응: 인스턴스 메모리에 짧게 보관하는 L1을 Redis 앞에 둠
+ * - 주의: 인스턴스 간 일관성이 깨질 수 있으므로 TTL을 짧게, 그리고 Redis 남은 TTL보다 길지 않게 잡음
+ *
+ * L1 히트 시 Redis/원천에 가지 않는지, TTL 상한이 지켜지는지 확인
+ */
+@DisplayName("Near Cache(L1) 테스트")
+class NearCacheTest extends CacheTestSupport {
+
+    /*
+     * 한 번 읽은 핫 심볼은 로컬에서 응답 (= 네트워크 왕복 없이 응답한다는 의미)
+     * 무효화 추적 중에는 쓰기 직후 채우지 않으므로, L1에 올라올 때까지 읽어 둔 뒤 확인
+     * (Redis 삭제 시 L1이 함께 지워지는지는 ClientTrackingTest에서 확인)
+     */
+    @Test
+    @DisplayName("핫 심볼은 L1에서 바로 응답한다")
+    void hotSymbol_servedFromLocalCache() {
+        await().atMost(Duration.ofSeconds(1)).until(() -> {
+            quoteCacheService.getQuote("BTC");
+            return nearCache.get("quotes:BTC") != null;
+        });
+        long hitsBefore = nearCache.hitCount();
+
+        for (int i = 0; i < 1000; i++) {
+            assertThat(quoteCacheService.getQuote("BTC")).isPresent();
+        }
+
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+        assertThat(nearCache.hitCount() - hitsBefore).isEqualTo(1000);
+    }
+
+    /*
+     * L1 최대 TTL(테스트 3초)보다 Redis TTL(1초)이 짧으면 Redis 만료 시점에 L1도 함께 만료
+     */
+    @Test
+    @DisplayName("L1 TTL은 Redis 남은 TTL을 넘지 않는다")
+    void localTtl_cappedByRedisTtl() throws InterruptedException {
+        String symbol = "NEAR_TTL";
+        repository.updateQuote(symbol, newQuote(symbol));
+        quoteCacheService.cacheQuoteWithFixedTtl(symbol, newQuote(symbol), Duration.ofSeconds(1));
+
+        assertThat(quoteCacheService.getQuote(symbol)).isPresent();
+        assertThat(repository.getQueryCount()).isEqualTo(0);
+
+        Thread.sleep(1200);
+
+        assertThat(quoteCacheService.getQuote(symbol)).isPresent();
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("캐시 삭제 시 L1도 함께 비운다")
+    void evict_invalidatesLocalCache() {
+        quoteCacheService.getQuote("ETH");
+        quoteCacheService.evictCache("ETH");
+
+        quoteCacheService.getQuote("ETH");
+
+        assertThat(repository.getQueryCount()).isEqualTo(2);
+    }
+}
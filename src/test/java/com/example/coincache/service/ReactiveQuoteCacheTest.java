@@ -0,0 +1,92 @@
+package com.example.coincache.service;
+
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 논블로킹 조회 경로
+ * - 상황: 스탬피드 때 대기자들이 Thread.sleep / Future.get으로 서블릿 스레드를 잡고 있어 스레드 풀이 고갈됨
+ * - 대응: 대기를 Mono.delay / 공유 Mono 구독으로 바꿔, 대기자 수와 스레드 수를 분리
+ *
+ * 호출 스레드 하나에서 수천 개 요청을 동시에 구독해도 전략별 원천 조회 제한이 지켜지는지 확인
+ */
+@DisplayName("논블로킹 조회 테스트")
+class ReactiveQuoteCacheTest extends CacheTestSupport {
+
+    @Autowired
+    private ReactiveQuoteCacheService reactiveQuoteCacheService;
+
+    @Test
+    @DisplayName("분산 락: 수천 개 대기자가 스레드 없이 대기하고 원천 조회는 최소화")
+    void distributedLock_waitsWithoutThreads() {
+        String symbol = "RX_LOCK";
+        repository.updateQuote(symbol, newQuote(symbol));
+
+        List<Optional<CoinQuote>> results = subscribeAll(symbol, ReadStrategy.LOCK);
+
+        assertThat(results).allMatch(Optional::isPresent);
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("SingleFlight: 공유 Mono 하나로 동일 키 요청을 합친다")
+    void singleFlight_sharesOneLoad() {
+        String symbol = "RX_SF";
+        repository.updateQuote(symbol, newQuote(symbol));
+
+        List<Optional<CoinQuote>> results = subscribeAll(symbol, ReadStrategy.SINGLE_FLIGHT);
+
+        assertThat(results).allMatch(Optional::isPresent);
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Logical Expire: 만료 후에도 stale 응답을 주고 백그라운드 갱신한다")
+    void logicalExpire_servesStale() throws InterruptedException {
+        String symbol = "RX_LOGICAL";
+        repository.updateQuote(symbol, newQuote(symbol));
+        quoteCacheService.cacheQuoteWithLogicalExpire(symbol, newQuote(symbol));
+        repository.resetQueryCount();
+
+        Thread.sleep(2500);
+        List<Optional<CoinQuote>> results = subscribeAll(symbol, ReadStrategy.LOGICAL_EXPIRE);
+        Thread.sleep(300); // 비동기 갱신 완료를 잠시 기다림
+
+        assertThat(results).allMatch(Optional::isPresent);
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Null Cache: 데이터 없는 키는 한 번만 원천 조회")
+    void nullCache_preventsRepeatedMisses() {
+        String missingSymbol = "RX_MISS";
+        repository.addValidSymbolOnly(missingSymbol);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(reactiveQuoteCacheService.getQuoteWithDistributedLock(missingSymbol).block()).isEmpty();
+        }
+
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+    }
+
+    /**
+     * 테스트 스레드 하나에서 모든 요청을 동시에 구독 (요청마다 스레드를 만들지 않음)
+     */
+    private List<Optional<CoinQuote>> subscribeAll(String symbol, ReadStrategy strategy) {
+        int requests = Math.min(5000, dataSize());
+        return Flux.range(0, requests)
+                .flatMap(i -> reactiveQuoteCacheService.getQuote(symbol, strategy), requests)
+                .collectList()
+                .block(Duration.ofSeconds(30));
+    }
+}
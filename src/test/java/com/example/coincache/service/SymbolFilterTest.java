@@ -0,0 +1,219 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.QuoteCacheKeys;
+import com.example.coincache.cache.RedisBloomFilter;
+import com.example.coincache.config.CacheProperties;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.repository.CoinQuoteRepository;
+import com.example.coincache.support.CacheTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 조회 경로의 심볼 필터 (운영 경로 Bloom Filter)
+ * - 상황: getQuote마다 existsSymbol을 부르면 실제 환경에서는 DB/API 호출이 한 번 더 생김
+ * - 대응: 기동 시 원천 심볼로 필터를 만들고, 신규 심볼은 이벤트로 바로 추가, 주기적으로 재구성해 교체
+ *
+ * 오탐으로 통과한 요청은 원천이 빈 결과를 주므로 그 비율을 관측 오탐률로 집계
+ */
+@DisplayName("심볼 필터(운영 경로 Bloom Filter) 테스트")
+class SymbolFilterTest extends CacheTestSupport {
+
+    @Autowired
+    private SymbolFilter symbolFilter;
+
+    @Autowired
+    private RedisBloomFilter redisSymbolFilter;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void resetStats() {
+        symbolFilter.resetStats();
+    }
+
+    @Test
+    @DisplayName("잘못된 심볼 대부분을 원천 확인 없이 차단하고 오탐률을 집계한다")
+    void getQuote_blocksMostInvalidSymbolsAndTracksFalsePositives() {
+        List<String> invalidSymbols = generateSymbols("BAD", dataSize());
+
+        for (String symbol : invalidSymbols) {
+            quoteCacheService.getQuote(symbol);
+        }
+
+        // 원천 조회는 오탐으로 통과한 만큼만, 심볼마다 한 번씩 요청했으므로 그 횟수가 곧 통과 후 빈 결과 수
+        int allowed = (int) (dataSize() * 0.03) + 5;
+        assertThat(repository.getQueryCount()).isLessThanOrEqualTo(allowed);
+        assertThat(symbolFilter.getPassedEmptyCount()).isEqualTo(repository.getQueryCount());
+        assertThat(symbolFilter.getBlockedCount() + symbolFilter.getPassedEmptyCount()).isEqualTo(dataSize());
+        assertThat(symbolFilter.observedFalsePositiveRate()).isLessThan(0.03d);
+    }
+
+    /*
+     * 오탐 심볼을 반복 요청하면 원천은 Null 캐시 덕에 한 번만 가지만, 오탐률은 차단과 같은 요청 단위로 세야 함
+     */
+    @Test
+    @DisplayName("통과 후 빈 결과는 Null 캐시 히트까지 요청마다 센다")
+    void passedEmpty_countsEveryRequest() {
+        // 원천에는 없지만 필터는 통과하는 심볼 (오탐과 같은 상황)
+        symbolFilter.put("FP_ONLY");
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(quoteCacheService.getQuote("FP_ONLY")).isEmpty();
+        }
+
+        assertThat(repository.getQueryCount()).isEqualTo(1);
+        assertThat(symbolFilter.getPassedEmptyCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("원천에 추가되거나 강제 갱신된 신규 심볼은 바로 통과한다")
+    void newSymbols_passImmediately() {
+        repository.updateQuote("NEW_LISTED", newQuote("NEW_LISTED"));
+        assertThat(quoteCacheService.getQuote("NEW_LISTED")).isPresent();
+
+        // Push 갱신으로 먼저 들어온 심볼 (원천 이벤트 없이 refreshCache만 호출)
+        quoteCacheService.refreshCache("NEW_PUSHED", newQuote("NEW_PUSHED"));
+        assertThat(symbolFilter.mightContain("NEW_PUSHED")).isTrue();
+        assertThat(quoteCacheService.getQuote("NEW_PUSHED")).isPresent();
+
+        // 원천 목록에 없는 Push 심볼도 주기 재구성 뒤에 빠지지 않음
+        symbolFilter.rebuild();
+        assertThat(quoteCacheService.getQuote("NEW_PUSHED")).isPresent();
+    }
+
+    /*
+     * 재구성과 신규 심볼 추가가 겹쳐도 교체 후 빠지는 심볼이 없어야 함
+     */
+    @Test
+    @DisplayName("재구성 중에 추가된 심볼도 교체된 필터에 남는다")
+    void rebuild_keepsSymbolsAddedConcurrently() throws InterruptedException {
+        seedSymbols(dataSize(), "VAL");
+        AtomicInteger sequence = new AtomicInteger();
+
+        runConcurrent(2000, 16, () -> {
+            int n = sequence.getAndIncrement();
+            if (n % 200 == 0) {
+                symbolFilter.rebuild();
+            }
+            repository.updateQuote("LIVE_" + n, newQuote("LIVE_" + n));
+        });
+
+        for (int i = 0; i < 2000; i++) {
+            assertThat(symbolFilter.mightContain("LIVE_" + i)).as("LIVE_" + i).isTrue();
+        }
+        assertThat(symbolFilter.mightContain("BTC")).isTrue();
+    }
+
+    /*
+     * 재시작한 인스턴스는 스냅샷을 매핑해 원천 목록 조회(여기서는 끝나지 않게 막아 둠) 전에 바로 판정
+     * 헤더가 맞지 않는 스냅샷은 거절하고 원천으로 재구성
+     */
+    @Test
+    @DisplayName("스냅샷이 있으면 원천 목록 없이 필터를 복원한다")
+    void snapshot_restoresWithoutOrigin(@TempDir Path dir) throws IOException {
+        List<String> symbols = seedSymbols(1000, "SNP");
+        Path snapshot = dir.resolve("symbols.bloom");
+        CacheProperties properties = new CacheProperties();
+        properties.getSymbolFilter().setRebuildIntervalSeconds(0);
+        properties.getSymbolFilter().setSnapshotPath(snapshot.toString());
+
+        SymbolFilter first = new SymbolFilter(repository, properties, redisSymbolFilter);
+        first.init();
+        first.shutdown();
+        assertThat(snapshot).exists();
+
+        CountDownLatch originReleased = new CountDownLatch(1);
+        SymbolFilter restarted = new SymbolFilter(blockingCatalog(originReleased), properties, redisSymbolFilter);
+        restarted.init();
+        try {
+            assertThat(symbols).allMatch(restarted::mightContain);
+            generateSymbols("BAD", 1000).forEach(restarted::mightContain);
+            assertThat(restarted.getBlockedCount()).isGreaterThan(950);
+        } finally {
+            originReleased.countDown();
+            restarted.shutdown();
+        }
+
+        byte[] corrupted = Files.readAllBytes(snapshot);
+        corrupted[0] ^= 0x7F;
+        Files.write(snapshot, corrupted);
+        SymbolFilter rebuilt = new SymbolFilter(repository, properties, redisSymbolFilter);
+        rebuilt.init();
+        assertThat(symbols).allMatch(rebuilt::mightContain);
+        rebuilt.shutdown();
+    }
+
+    /*
+     * redis 모드: 먼저 뜬 인스턴스가 오프라인 빌드 후 SET으로 적재하고, 다음 인스턴스는 적재된 비트맵을 그대로 씀
+     * 한 인스턴스의 put(신규 상장)이 다른 인스턴스 판정에 바로 보여야 함
+     */
+    @Test
+    @DisplayName("redis 모드는 모든 인스턴스가 같은 비트맵으로 판정한다")
+    void redisMode_sharesBitmapAcrossInstances() {
+        List<String> symbols = seedSymbols(1000, "SHR");
+        CacheProperties properties = new CacheProperties();
+        properties.getSymbolFilter().setMode(CacheProperties.SymbolFilterProperties.Mode.REDIS);
+        properties.getSymbolFilter().setRebuildIntervalSeconds(0);
+        SymbolFilter first = new SymbolFilter(repository, properties, redisFilter(properties));
+        SymbolFilter second = new SymbolFilter(repository, properties, redisFilter(properties));
+
+        first.init();
+        second.init();
+        first.put("SHR_LISTED_NOW");
+
+        assertThat(symbols).allMatch(second::mightContain);
+        assertThat(second.mightContain("SHR_LISTED_NOW")).isTrue();
+        generateSymbols("BAD", 1000).forEach(second::mightContain);
+        assertThat(second.getBlockedCount()).isGreaterThan(950);
+        assertThat(symbolFilter.isRedisMode()).isFalse();
+    }
+
+    private RedisBloomFilter redisFilter(CacheProperties properties) {
+        return new RedisBloomFilter(stringRedisTemplate, QuoteCacheKeys.SYMBOL_FILTER_KEY,
+                properties.getSymbolFilter().getExpectedInsertions(), properties.getSymbolFilter().getFpp());
+    }
+
+    /**
+     * 전체 심볼 목록 조회가 latch가 풀릴 때까지 끝나지 않는 원천
+     */
+    private CoinQuoteRepository blockingCatalog(CountDownLatch released) {
+        return new CoinQuoteRepository() {
+            @Override
+            public Optional<CoinQuote> findBySymbol(String symbol) {
+                return repository.findBySymbol(symbol);
+            }
+
+            @Override
+            public boolean existsSymbol(String symbol) {
+                return repository.existsSymbol(symbol);
+            }
+
+            @Override
+            public Collection<String> findAllSymbols() {
+                try {
+                    released.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return repository.findAllSymbols();
+            }
+        };
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.coincache.service;
+
+import com.example.coincache.cache.CacheValue;
+import com.example.coincache.cache.QuoteBinaryRedisSerializer;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.support.CacheTestSupport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+
+import static com.example.coincache.cache.QuoteCacheKeys.NULL_MARKER;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * 캐시 값 바이너리 포맷
+ * - 상황: JSON + default typing은 값마다 @class 문자열과 숫자/시각 텍스트를 실어서 시세 1건이 수백 바이트
+ *        히트마다 리플렉션 기반 Jackson 파싱 비용도 냄
+ * - 대응: 시세 타입 전용 바이너리 포맷 (버전 헤더 포함), 기존 JSON 값은 그대로 읽음
+ */
+@DisplayName("캐시 값 바이너리 포맷 테스트")
+class ValueCodecTest extends CacheTestSupport {
+
+    @Autowired
+    private RedisSerializer<Object> quoteValueSerializer;
+
+    @Autowired
+    private ObjectMapper redisObjectMapper;
+
+    @Test
+    @DisplayName("시세/논리 만료 래퍼/Null 마커가 그대로 복원된다")
+    void binary_roundTrip() {
+        CoinQuote quote = newQuote("BIN", new BigDecimal("64123.45"));
+        CacheValue<CoinQuote> wrapped = new CacheValue<>(quote, System.currentTimeMillis() + 1000);
+        CacheValue<CoinQuote> wrappedNull = new CacheValue<>(null, 42L);
+
+        assertThat(quoteValueSerializer).isInstanceOf(QuoteBinaryRedisSerializer.class);
+        assertThat(roundTrip(quote)).isEqualTo(quote);
+        assertThat(roundTrip(wrapped)).isEqualTo(wrapped);
+        assertThat(roundTrip(wrappedNull)).isEqualTo(wrappedNull);
+        assertThat(roundTrip(NULL_MARKER)).isEqualTo(NULL_MARKER);
+        assertThat(roundTrip(CoinQuote.empty("EMPTY"))).isEqualTo(CoinQuote.empty("EMPTY"));
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 금액도 정밀도 그대로 복원된다")
+    void binary_roundTrip_largeDecimal() {
+        CoinQuote quote = newQuote("BIG");
+        quote.setVolume24h(new BigDecimal("123456789012345678901234567890.123456789"));
+        quote.setChange24h(new BigDecimal("-0.000001"));
+
+        assertThat(roundTrip(quote)).isEqualTo(quote);
+    }
+
+    /*
+     * 기존 JSON 대비 크기 비교 - 값 크기가 곧 Redis 메모리와 네트워크 전송량
+     */
+    @Test
+    @DisplayName("바이너리 값은 JSON보다 훨씬 작다")
+    void binary_isMuchSmallerThanJson() {
+        CoinQuote quote = newQuote("BTC");
+        byte[] json = new GenericJackson2JsonRedisSerializer(redisObjectMapper).serialize(quote);
+        byte[] binary = quoteValueSerializer.serialize(quote);
+
+        assertThat(binary.length * 4).isLessThan(json.length);
+    }
+
+    /*
+     * 포맷 전환 직후에도 Redis에 남아 있는 JSON 값을 히트로 처리해야 원천 폭주가 없음
+     */
+    @Test
+    @DisplayName("전환 전에 저장된 JSON 값도 캐시 히트로 읽힌다")
+    void binary_readsLegacyJson() {
+        byte[] json = new GenericJackson2JsonRedisSerializer(redisObjectMapper).serialize(newQuote("BTC"));
+        redisTemplate.getConnectionFactory().getConnection().stringCommands()
+                .set("quotes:BTC".getBytes(StandardCharsets.UTF_8), json);
+
+        assertThat(quoteCacheService.getQuote("BTC")).isPresent();
+        assertThat(repository.getQueryCount()).isEqualTo(0);
+    }
+
+    private Object roundTrip(Object value) {
+        return quoteValueSerializer.deserialize(quoteValueSerializer.serialize(value));
+    }
+}
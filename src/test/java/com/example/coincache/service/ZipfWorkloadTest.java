@@ -0,0 +1,115 @@
+package com.example.coincache.service;
+
+import com.example.coincache.controller.QuoteController;
+import com.example.coincache.support.CacheTestSupport;
+import com.example.coincache.support.workload.KeyDistribution;
+import com.example.coincache.support.workload.OperationMix;
+import com.example.coincache.support.workload.WorkloadGenerator;
+import com.example.coincache.support.workload.WorkloadReport;
+import com.example.coincache.support.workload.WorkloadSpec;
+import com.example.coincache.support.workload.WorkloadTarget;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 편향 분포 워크로드
+ * - 상황: 기존 테스트는 키 하나(HOT_LOCK)에 몰거나 seedQuotes 전체에 고르게 뿌려서 실제 트래픽(소수 심볼 집중 + 긴 꼬리)과 다름
+ * - 대응: Zipf/핫스팟 키 분포 + 조회/갱신/삭제 혼합 + 개방/폐쇄 도착 모델로 서비스/컨트롤러를 부하
+ *        히트율, 원천 QPS, coordinated omission 보정 지연을 함께 봄
+ */
+@Slf4j
+@DisplayName("편향 분포 워크로드 테스트")
+class ZipfWorkloadTest extends CacheTestSupport {
+
+    @Autowired
+    private CacheMetrics metrics;
+
+    @Autowired
+    private QuoteController quoteController;
+
+    private WorkloadGenerator generator;
+
+    @BeforeEach
+    void setUpGenerator() {
+        generator = new WorkloadGenerator(metrics, repository);
+    }
+
+    @Test
+    @DisplayName("Zipf 분포는 순위 k를 1/k^s 비율로 뽑는다")
+    void zipfDistribution_followsRankFrequencies() {
+        int size = 1000;
+        int samples = 500_000;
+        KeyDistribution zipf = KeyDistribution.zipf(size, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+
+        int[] counts = new int[size];
+        for (int i = 0; i < samples; i++) {
+            counts[zipf.nextIndex(random)]++;
+        }
+
+        double harmonic = 0;
+        for (int rank = 1; rank <= size; rank++) {
+            harmonic += 1.0 / rank;
+        }
+        assertThat(counts[0] / (double) samples).isCloseTo(1 / harmonic, within(0.005));
+        assertThat(counts[1] / (double) counts[0]).isCloseTo(0.5, within(0.02));
+        assertThat(counts[9] / (double) counts[0]).isCloseTo(0.1, within(0.01));
+    }
+
+    /*
+     * 인기 키는 한 번 적재된 뒤 계속 히트하므로 원천 호출은 접근한 서로 다른 키 수 정도에 그침
+     */
+    @Test
+    @DisplayName("Zipf 조회/갱신/삭제 혼합에서 히트율과 원천 QPS를 보고한다")
+    void closedLoopZipf_reportsHitRatioAndOriginQps() throws InterruptedException {
+        List<String> symbols = seedSymbols(2_000, "ZIPF_");
+
+        WorkloadReport report = generator.run(WorkloadSpec.builder()
+                .symbols(symbols)
+                .distribution(KeyDistribution.zipf(symbols.size(), 1.1))
+                .mix(new OperationMix(0.95, 0.04, 0.01))
+                .concurrency(8)
+                .duration(Duration.ofSeconds(2))
+                .build(), WorkloadTarget.service(quoteCacheService, ReadStrategy.LOCK));
+
+        log.info("[Zipf closed-loop] {}", report.summary());
+        assertThat(report.errors()).isZero();
+        assertThat(report.reads()).isGreaterThan(report.operations() * 9 / 10);
+        assertThat(report.hitRatio()).isGreaterThan(0.8);
+        assertThat(report.originQueries()).isLessThan(report.reads() / 5);
+    }
+
+    /*
+     * 개방 루프는 응답이 밀려도 예정대로 보내므로 요청 수는 목표율 x 시간으로 고정되고,
+     * 예정 시각 기준 지연은 호출 시간보다 항상 크거나 같음
+     */
+    @Test
+    @DisplayName("개방 루프는 목표율대로 보내고 보정 지연을 따로 잰다")
+    void openLoopHotspot_throughController() throws InterruptedException {
+        List<String> symbols = seedSymbols(500, "HOTSPOT_");
+
+        WorkloadReport report = generator.run(WorkloadSpec.builder()
+                .symbols(symbols)
+                .distribution(KeyDistribution.hotspot(symbols.size(), 0.2, 0.8))
+                .arrival(WorkloadSpec.Arrival.OPEN_LOOP)
+                .ratePerSecond(1_000)
+                .duration(Duration.ofSeconds(1))
+                .build(), WorkloadTarget.controller(quoteController));
+
+        log.info("[Hotspot open-loop] {}", report.summary());
+        assertThat(report.operations()).isEqualTo(1_000);
+        assertThat(report.errors()).isZero();
+        assertThat(report.latencyMs(99)).isGreaterThanOrEqualTo(report.serviceTimeMs(99));
+        assertThat(report.originQueries()).isLessThanOrEqualTo(symbols.size());
+    }
+}
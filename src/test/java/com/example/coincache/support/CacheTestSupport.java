@@ -1,5 +1,7 @@
 package com.example.coincache.support;
 
+import com.example.coincache.cache.NearCache;
+import com.example.coincache.domain.CoinQuote;
 import com.example.coincache.repository.InMemoryCoinQuoteRepository;
 import com.example.coincache.service.QuoteCacheService;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,6 +10,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
@@ -28,9 +32,13 @@ public abstract class CacheTestSupport {
     @Autowired
     protected RedisTemplate<String, Object> redisTemplate;
 
+    @Autowired
+    protected NearCache nearCache;
+
     @BeforeEach
     void setUp() {
         redisTemplate.getConnectionFactory().getConnection().flushAll();
+        nearCache.clear();
         repository.resetQueryCount();
         repository.resetData();
     }
@@ -55,6 +63,20 @@ public abstract class CacheTestSupport {
         return symbols;
     }
 
+    protected static CoinQuote newQuote(String symbol) {
+        return newQuote(symbol, new BigDecimal("100.00"));
+    }
+
+    protected static CoinQuote newQuote(String symbol, BigDecimal price) {
+        return CoinQuote.builder()
+                .symbol(symbol)
+                .price(price)
+                .change24h(new BigDecimal("1.0"))
+                .volume24h(new BigDecimal("1000000"))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+
     protected void runConcurrent(int tasks, int threads, Runnable action) throws InterruptedException {
         ExecutorService executor = Executors.newFixedThreadPool(threads);
         CountDownLatch startLatch = new CountDownLatch(1);
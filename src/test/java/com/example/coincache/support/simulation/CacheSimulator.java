@@ -0,0 +1,441 @@
+package com.example.coincache.support.simulation;
+
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceFile;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * QuoteCacheService의 캐시 동작을 가상 시계 위에서 재현하는 이산 사건 시뮬레이터
+ * (Redis/스레드/실제 대기 없이 트레이스를 재생해 TTL/전략 파라미터 스윕을 몇 초 안에 끝냄)
+ *
+ * - 트레이스 이벤트(조회/갱신/삭제)와 원천 조회 완료, 락/합류 대기 만료를 시각 순서대로 처리
+ * - LOCK: 미스 -> SET NX 락(lockTimeoutMs 뒤 만료)을 잡은 요청만 원천 조회
+ *   나머지는 적재 신호를 최대 lockTimeoutMs 기다린 뒤 캐시 재확인, 여전히 없으면 락부터 다시 시도
+ * - SINGLE_FLIGHT: 미스 -> 진행 중인 조회에 합류, singleFlightWaitMs 안에 안 끝나면 직접 원천 조회
+ * - LOGICAL_EXPIRE: 논리 만료 전은 히트, 지나면 stale 값을 바로 주고 갱신 락을 잡은 요청만 비동기 갱신
+ *   (refreshThreads개 갱신 스레드 큐), 물리 TTL(논리 + 버퍼)까지 지나 엔트리가 없으면 락 없이 원천 조회
+ * - TTL은 base + [0, jitter]초 균등, 원천에 없는 심볼은 Null 캐시 (논리 만료 경로는 논리 엔트리로)
+ * - REFRESH/EVICT는 서비스와 같이 일반 키(quotes:{symbol})만 바꾸고 논리 만료 키는 건드리지 않음
+ *
+ * 모델링하지 않는 것: L1, Redis 왕복 시간, 원천 지연 분포/실패, 다건 조회 묶음, 다른 인스턴스
+ */
+public final class CacheSimulator {
+
+    private static final long MICROS_PER_MILLI = 1_000;
+    private static final long MICROS_PER_SECOND = 1_000_000;
+    private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final long MAX_STALENESS_MS = TimeUnit.DAYS.toMillis(1);
+
+    private final SimulationConfig config;
+    private final SplittableRandom random;
+    private final long originLatency;
+    private final long lockTimeout;
+    private final long singleFlightWait;
+    private final long bucketMicros;
+
+    private final Map<String, Entry> plain = new HashMap<>();
+    private final Map<String, Entry> logical = new HashMap<>();
+    /**
+     * LOCK 적재 락, LOGICAL_EXPIRE 갱신 락 (실행 한 번에 전략은 하나)
+     */
+    private final Map<String, Load> locks = new HashMap<>();
+    private final Map<String, List<Request>> lockWaiters = new HashMap<>();
+    private final Map<String, Load> inFlight = new HashMap<>();
+    private final long[] refreshWorkerFreeAt;
+    private final PriorityQueue<Pending> pending = new PriorityQueue<>();
+    private long sequence;
+
+    private final Histogram latency = new Histogram(MAX_LATENCY_MICROS, 2);
+    private final Histogram staleness = new Histogram(MAX_STALENESS_MS, 2);
+    private long[] originCallsPerBucket = new long[64];
+    private int lastBucket = -1;
+    private long firstOffset;
+    private long lastOffset;
+
+    private long events;
+    private long reads;
+    private long hits;
+    private long nullHits;
+    private long staleServed;
+    private long misses;
+    private long blocked;
+    private long originCalls;
+
+    private CacheSimulator(SimulationConfig config) {
+        this.config = config;
+        this.random = new SplittableRandom(config.getSeed());
+        this.originLatency = config.getOriginLatencyMs() * MICROS_PER_MILLI;
+        this.lockTimeout = config.getLockTimeoutMs() * MICROS_PER_MILLI;
+        this.singleFlightWait = config.getSingleFlightWaitMs() * MICROS_PER_MILLI;
+        this.bucketMicros = config.getBucketMillis() * MICROS_PER_MILLI;
+        this.refreshWorkerFreeAt = new long[Math.max(1, config.getRefreshThreads())];
+    }
+
+    public static SimulationReport simulate(SimulationConfig config, Iterable<AccessTraceEvent> trace) {
+        Iterator<AccessTraceEvent> iterator = trace.iterator();
+        try {
+            return new CacheSimulator(config).run(() -> iterator.hasNext() ? iterator.next() : null);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 파일을 한 번에 읽지 않고 레코드 단위로 흘려 보냄 (수천만 건 트레이스도 메모리 부담 없음)
+     */
+    public static SimulationReport simulate(SimulationConfig config, Path trace) throws IOException {
+        try (AccessTraceFile.Reader reader = new AccessTraceFile.Reader(Files.newInputStream(trace), trace)) {
+            return new CacheSimulator(config).run(reader::next);
+        }
+    }
+
+    private SimulationReport run(EventSource source) throws IOException {
+        long wallStart = System.nanoTime();
+        AccessTraceEvent event;
+        while ((event = source.next()) != null) {
+            long now = event.offsetMicros();
+            if (events++ == 0) {
+                firstOffset = now;
+            }
+            lastOffset = Math.max(lastOffset, now);
+            drainUntil(now);
+            switch (event.type()) {
+                case READ -> read(event.symbol(), now);
+                case REFRESH -> plain.put(event.symbol(), new Entry(now, false, now + ttlWithJitter(), 0));
+                case EVICT -> plain.remove(event.symbol());
+            }
+        }
+        drainUntil(Long.MAX_VALUE);
+
+        return new SimulationReport(
+                config,
+                events,
+                reads,
+                hits,
+                nullHits,
+                staleServed,
+                misses,
+                blocked,
+                originCalls,
+                config.getBucketMillis(),
+                Arrays.copyOf(originCallsPerBucket, lastBucket + 1),
+                latency,
+                staleness,
+                Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(lastOffset - firstOffset)),
+                Duration.ofNanos(System.nanoTime() - wallStart));
+    }
+
+    /**
+     * 같은 시각이면 먼저 예약된 사건부터 (트레이스 이벤트보다 그 시각까지 끝난 적재가 먼저)
+     */
+    private void drainUntil(long time) {
+        while (!pending.isEmpty() && pending.peek().time() <= time) {
+            Pending next = pending.poll();
+            next.action().accept(next.time());
+        }
+    }
+
+    private void read(String symbol, long now) {
+        reads++;
+        if (config.isSymbolFilter() && !config.getOriginContains().test(symbol)) {
+            blocked++;
+            return;
+        }
+        switch (config.getStrategy()) {
+            case LOCK -> readWithLock(symbol, now);
+            case SINGLE_FLIGHT -> readWithSingleFlight(symbol, now);
+            case LOGICAL_EXPIRE -> readWithLogicalExpire(symbol, now);
+        }
+    }
+
+    private void readWithLock(String symbol, long now) {
+        Entry entry = live(plain, symbol, now);
+        if (entry != null) {
+            recordHit(entry, now);
+            return;
+        }
+        misses++;
+        acquireOrWait(symbol, new Request(now), now);
+    }
+
+    private void acquireOrWait(String symbol, Request request, long now) {
+        Load holder = locks.get(symbol);
+        if (holder == null || now >= holder.lockUntil) {
+            Load load = new Load(now + lockTimeout);
+            locks.put(symbol, load);
+            request.loading = true;
+            callOrigin(now, done -> {
+                // 락이 이미 만료돼 다른 요청이 잡았으면 그 락은 풀지 않음 (토큰 비교)
+                locks.remove(symbol, load);
+                Entry written = writePlain(symbol, done);
+                serve(request, done, written);
+                wakeWaiters(symbol, done);
+            });
+            return;
+        }
+        if (!request.waiting) {
+            request.waiting = true;
+            lockWaiters.computeIfAbsent(symbol, key -> new ArrayList<>()).add(request);
+        }
+        schedule(now + lockTimeout, timeout -> retryAfterWait(symbol, request, timeout));
+    }
+
+    /**
+     * 적재 신호를 받은 대기자는 캐시를 다시 읽음
+     */
+    private void wakeWaiters(String symbol, long now) {
+        List<Request> waiters = lockWaiters.remove(symbol);
+        if (waiters == null) {
+            return;
+        }
+        Entry entry = live(plain, symbol, now);
+        for (Request waiter : waiters) {
+            waiter.waiting = false;
+            if (entry != null && !waiter.done && !waiter.loading) {
+                serve(waiter, now, entry);
+            }
+        }
+    }
+
+    /**
+     * 신호 없이 대기 시간이 지나면 캐시 확인 후 락부터 다시 시도 (waitAndRetry)
+     */
+    private void retryAfterWait(String symbol, Request request, long now) {
+        if (request.done || request.loading) {
+            return;
+        }
+        Entry entry = live(plain, symbol, now);
+        if (entry != null) {
+            serve(request, now, entry);
+            return;
+        }
+        acquireOrWait(symbol, request, now);
+    }
+
+    private void readWithSingleFlight(String symbol, long now) {
+        Entry entry = live(plain, symbol, now);
+        if (entry != null) {
+            recordHit(entry, now);
+            return;
+        }
+        misses++;
+        Request request = new Request(now);
+        Load existing = inFlight.get(symbol);
+        if (existing == null) {
+            Load load = new Load(0);
+            inFlight.put(symbol, load);
+            callOrigin(now, done -> {
+                inFlight.remove(symbol, load);
+                Entry written = writePlain(symbol, done);
+                serve(request, done, written);
+                for (Request joiner : load.joiners) {
+                    if (!joiner.done && !joiner.loading) {
+                        serve(joiner, done, written);
+                    }
+                }
+            });
+            return;
+        }
+
+        existing.joiners.add(request);
+        schedule(now + singleFlightWait, timeout -> {
+            if (request.done) {
+                return;
+            }
+            // 대기 실패 -> 합치지 않고 직접 원천 조회
+            request.loading = true;
+            callOrigin(timeout, done -> serve(request, done, writePlain(symbol, done)));
+        });
+    }
+
+    private void readWithLogicalExpire(String symbol, long now) {
+        Entry entry = live(logical, symbol, now);
+        if (entry == null) {
+            misses++;
+            Request request = new Request(now);
+            callOrigin(now, done -> serve(request, done, writeLogical(symbol, done)));
+            return;
+        }
+        if (now <= entry.logicalExpireAt) {
+            recordHit(entry, now);
+            return;
+        }
+
+        staleServed++;
+        latency.recordValue(0);
+        if (!entry.nullValue) {
+            recordStaleness(now - entry.valueTime);
+        }
+        Load holder = locks.get(symbol);
+        if (holder != null && now < holder.lockUntil) {
+            return;
+        }
+        Load refresh = new Load(now + lockTimeout);
+        locks.put(symbol, refresh);
+        callOrigin(nextRefreshStart(now), done -> {
+            writeLogical(symbol, done);
+            locks.remove(symbol, refresh);
+        });
+    }
+
+    /**
+     * 갱신 스레드가 모두 바쁘면 가장 먼저 비는 스레드가 끝날 때까지 큐에서 기다림
+     */
+    private long nextRefreshStart(long now) {
+        int worker = 0;
+        for (int i = 1; i < refreshWorkerFreeAt.length; i++) {
+            if (refreshWorkerFreeAt[i] < refreshWorkerFreeAt[worker]) {
+                worker = i;
+            }
+        }
+        long start = Math.max(now, refreshWorkerFreeAt[worker]);
+        refreshWorkerFreeAt[worker] = start + originLatency;
+        return start;
+    }
+
+    /**
+     * 원천 호출은 시작 시각 구간에 집계, 값은 응답 시각 기준
+     */
+    private void callOrigin(long start, LongConsumer onDone) {
+        originCalls++;
+        int bucket = (int) ((start - firstOffset) / bucketMicros);
+        if (bucket >= originCallsPerBucket.length) {
+            originCallsPerBucket = Arrays.copyOf(originCallsPerBucket,
+                    Math.max(bucket + 1, originCallsPerBucket.length * 2));
+        }
+        originCallsPerBucket[bucket]++;
+        lastBucket = Math.max(lastBucket, bucket);
+        schedule(start + originLatency, onDone);
+    }
+
+    private void schedule(long time, LongConsumer action) {
+        pending.add(new Pending(time, sequence++, action));
+    }
+
+    private Entry writePlain(String symbol, long now) {
+        boolean exists = config.getOriginContains().test(symbol);
+        long ttl = exists ? ttlWithJitter() : config.getNullCacheTtlSeconds() * MICROS_PER_SECOND;
+        Entry entry = new Entry(now, !exists, now + ttl, 0);
+        plain.put(symbol, entry);
+        return entry;
+    }
+
+    private Entry writeLogical(String symbol, long now) {
+        long logicalExpire = config.getLogicalExpireSeconds() * MICROS_PER_SECOND;
+        long physicalTtl = logicalExpire + config.getStaleTtlBufferSeconds() * MICROS_PER_SECOND;
+        Entry entry = new Entry(now, !config.getOriginContains().test(symbol), now + physicalTtl, now + logicalExpire);
+        logical.put(symbol, entry);
+        return entry;
+    }
+
+    private long ttlWithJitter() {
+        int jitter = random.nextInt(0, config.getTtlJitterSeconds() + 1);
+        return (config.getBaseTtlSeconds() + jitter) * MICROS_PER_SECOND;
+    }
+
+    /**
+     * 물리 TTL이 지난 엔트리는 Redis처럼 읽는 시점에 지움
+     */
+    private static Entry live(Map<String, Entry> keyspace, String symbol, long now) {
+        Entry entry = keyspace.get(symbol);
+        if (entry != null && now >= entry.expireAt) {
+            keyspace.remove(symbol);
+            return null;
+        }
+        return entry;
+    }
+
+    private void recordHit(Entry entry, long now) {
+        latency.recordValue(0);
+        if (entry.nullValue) {
+            nullHits++;
+            return;
+        }
+        hits++;
+        recordStaleness(now - entry.valueTime);
+    }
+
+    private void serve(Request request, long now, Entry entry) {
+        request.done = true;
+        latency.recordValue(Math.min(now - request.arrival, MAX_LATENCY_MICROS));
+        if (!entry.nullValue) {
+            recordStaleness(now - entry.valueTime);
+        }
+    }
+
+    private void recordStaleness(long micros) {
+        staleness.recordValue(Math.min(micros / MICROS_PER_MILLI, MAX_STALENESS_MS));
+    }
+
+    @FunctionalInterface
+    private interface EventSource {
+
+        /**
+         * @return 다음 이벤트, 끝이면 null
+         */
+        AccessTraceEvent next() throws IOException;
+    }
+
+    /**
+     * 캐시 엔트리 (시각은 모두 트레이스 기준 마이크로초)
+     *
+     * @param valueTime       원천 응답(또는 푸시) 시각 - staleness 기준
+     * @param expireAt        물리 TTL 만료 시각
+     * @param logicalExpireAt 논리 만료 시각 (논리 만료 키만)
+     */
+    private record Entry(long valueTime, boolean nullValue, long expireAt, long logicalExpireAt) {
+    }
+
+    /**
+     * 원천 조회 한 건 - 락 보유 기한과 SingleFlight 합류자
+     */
+    private static final class Load {
+
+        private final long lockUntil;
+        private final List<Request> joiners = new ArrayList<>();
+
+        private Load(long lockUntil) {
+            this.lockUntil = lockUntil;
+        }
+    }
+
+    /**
+     * 캐시 미스로 기다리는 요청 하나
+     */
+    private static final class Request {
+
+        private final long arrival;
+        private boolean waiting;
+        private boolean loading;
+        private boolean done;
+
+        private Request(long arrival) {
+            this.arrival = arrival;
+        }
+    }
+
+    private record Pending(long time, long sequence, LongConsumer action) implements Comparable<Pending> {
+
+        @Override
+        public int compareTo(Pending other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.coincache.support.simulation;
+
+import com.example.coincache.service.ReadStrategy;
+import com.example.coincache.support.workload.KeyDistribution;
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceFile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/*
+ * 오프라인 캐시 시뮬레이터
+ * - 상황: TTL/Jitter/Null TTL/논리 만료 값을 Redis 재생으로 맞추면 조합 하나에 트레이스 길이만큼 걸림
+ * - 대응: 서비스의 캐시 의미(TTL+Jitter, Null 캐시, 락, SingleFlight, 논리 만료 비동기 갱신)를
+ *        가상 시계로 재현해 같은 트레이스를 초 단위로 스윕
+ */
+@Slf4j
+@DisplayName("오프라인 캐시 시뮬레이터 테스트")
+class CacheSimulatorTest {
+
+    private static final SimulationConfig BASE = SimulationConfig.builder()
+            .baseTtlSeconds(60)
+            .ttlJitterSeconds(0)
+            .originLatencyMs(50)
+            .lockTimeoutMs(100)
+            .build();
+
+    @TempDir
+    private Path tempDir;
+
+    /*
+     * 원천 응답(50ms) 전에 몰린 미스는 락 보유자 하나만 원천으로 가고 나머지는 적재 신호로 받음
+     * 락 TTL이 원천 지연보다 짧으면 락이 풀릴 때마다 새 보유자가 생김 (0, 20, 40ms)
+     */
+    @Test
+    @DisplayName("LOCK은 동시 미스를 한 번의 원천 조회로 합치고 TTL 뒤 다시 적재한다")
+    void lock_collapsesMissesUntilTtl() {
+        List<AccessTraceEvent> trace = burst("BTC", 0, 50, 1_000);
+        trace.add(read(10_000_000, "BTC"));
+        trace.add(read(70_000_000, "BTC"));
+
+        SimulationReport report = CacheSimulator.simulate(BASE, trace);
+
+        assertThat(report.originCalls()).isEqualTo(2);
+        assertThat(report.misses()).isEqualTo(51);
+        assertThat(report.hits()).isEqualTo(1);
+        assertThat(report.latencyMs(100)).isCloseTo(50, within(1.0));
+        assertThat(report.staleness().getMaxValue()).isGreaterThanOrEqualTo(9_900);
+
+        SimulationReport shortLock = CacheSimulator.simulate(BASE.toBuilder().lockTimeoutMs(20).build(),
+                burst("BTC", 0, 50, 1_000));
+        assertThat(shortLock.originCalls()).isEqualTo(3);
+    }
+
+    /*
+     * 합류 대기(10ms)가 원천 지연(50ms)보다 짧으면 응답 전에 대기가 끝나는 합류자마다 직접 원천 조회
+     */
+    @Test
+    @DisplayName("SingleFlight는 합류 대기 시간 안에서만 원천 조회를 합친다")
+    void singleFlight_fallsBackAfterWait() {
+        SimulationConfig config = BASE.toBuilder().strategy(ReadStrategy.SINGLE_FLIGHT).build();
+        List<AccessTraceEvent> trace = burst("ETH", 0, 50, 1_000);
+
+        assertThat(CacheSimulator.simulate(config, trace).originCalls()).isEqualTo(1);
+        assertThat(CacheSimulator.simulate(config.toBuilder().singleFlightWaitMs(10).build(), trace).originCalls())
+                .isEqualTo(40);
+    }
+
+    /*
+     * 논리 만료 뒤에는 갱신이 끝날 때까지(50ms) stale 값을 바로 주고 갱신은 한 번만
+     * 물리 TTL(논리 60s + 버퍼 30s)까지 지나면 일반 미스
+     */
+    @Test
+    @DisplayName("논리 만료는 stale 값을 주면서 한 번만 비동기 갱신한다")
+    void logicalExpire_servesStaleAndRefreshesOnce() {
+        SimulationConfig config = BASE.toBuilder()
+                .strategy(ReadStrategy.LOGICAL_EXPIRE)
+                .logicalExpireSeconds(60)
+                .staleTtlBufferSeconds(30)
+                .build();
+        List<AccessTraceEvent> trace = new ArrayList<>();
+        trace.add(read(0, "SOL"));
+        trace.add(read(1_000_000, "SOL"));
+        trace.addAll(burst("SOL", 61_000_000, 100, 1_000));
+        trace.add(read(200_000_000, "SOL"));
+
+        SimulationReport report = CacheSimulator.simulate(config, trace);
+
+        assertThat(report.staleServed()).isEqualTo(50);
+        assertThat(report.hits()).isEqualTo(51);
+        assertThat(report.misses()).isEqualTo(2);
+        assertThat(report.originCalls()).isEqualTo(3);
+        assertThat(report.latencyMs(50)).isZero();
+        assertThat(report.staleness().getMaxValue()).isBetween(60_500L, 61_500L);
+    }
+
+    /*
+     * 필터를 끄면 없는 심볼은 Null 캐시 TTL마다 원천으로 한 번씩 감 (0, 31, 62, 93s)
+     */
+    @Test
+    @DisplayName("없는 심볼은 필터가 막고, 필터가 없으면 Null 캐시 TTL마다 원천 조회한다")
+    void unknownSymbol_nullCachedOrBlocked() {
+        SimulationConfig config = BASE.toBuilder()
+                .originContains(symbol -> !symbol.equals("NOPE"))
+                .nullCacheTtlSeconds(30)
+                .build();
+        List<AccessTraceEvent> trace = burst("NOPE", 0, 100, 1_000_000);
+
+        SimulationReport blocked = CacheSimulator.simulate(config, trace);
+        SimulationReport nullCached = CacheSimulator.simulate(config.toBuilder().symbolFilter(false).build(), trace);
+
+        assertThat(blocked.blocked()).isEqualTo(100);
+        assertThat(blocked.originCalls()).isZero();
+        assertThat(nullCached.originCalls()).isEqualTo(4);
+        assertThat(nullCached.nullHits()).isEqualTo(96);
+    }
+
+    /*
+     * 100만 건 Zipf 트레이스(가상 100초)를 파일에서 흘려 읽으며 TTL별/전략별로 스윕
+     * TTL이 길수록 히트율은 오르고 원천 호출은 줄어야 함
+     */
+    @Test
+    @DisplayName("기록된 트레이스로 TTL과 전략을 스윕한다")
+    void recordedTrace_parameterSweep() throws IOException {
+        Path trace = writeZipfTrace(1_000_000, 10_000, 10_000);
+
+        double previousHitRatio = -1;
+        long previousOriginCalls = Long.MAX_VALUE;
+        for (int ttl : new int[]{1, 10, 60}) {
+            SimulationReport report = CacheSimulator.simulate(BASE.toBuilder().baseTtlSeconds(ttl).build(), trace);
+            log.info("[시뮬레이션] {}", report.summary());
+
+            assertThat(report.events()).isEqualTo(1_000_000);
+            assertThat(report.hitRatio()).isGreaterThan(previousHitRatio);
+            assertThat(report.originCalls()).isLessThan(previousOriginCalls);
+            previousHitRatio = report.hitRatio();
+            previousOriginCalls = report.originCalls();
+        }
+
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            SimulationReport report = CacheSimulator.simulate(BASE.toBuilder()
+                    .strategy(strategy)
+                    .ttlJitterSeconds(10)
+                    .logicalExpireSeconds(10)
+                    .build(), trace);
+            log.info("[시뮬레이션] {}", report.summary());
+            assertThat(report.originCallsPerBucket()).hasSizeGreaterThanOrEqualTo(100);
+        }
+    }
+
+    private Path writeZipfTrace(int events, int symbols, int ratePerSecond) throws IOException {
+        Path path = tempDir.resolve("zipf.trace");
+        KeyDistribution distribution = KeyDistribution.zipf(symbols, 1.0);
+        SplittableRandom random = new SplittableRandom(7);
+        long intervalMicros = 1_000_000L / ratePerSecond;
+        try (AccessTraceFile.Writer writer = new AccessTraceFile.Writer(Files.newOutputStream(path), 0)) {
+            for (int i = 0; i < events; i++) {
+                writer.write(read(i * intervalMicros, "SYM_" + distribution.nextIndex(random)));
+            }
+        }
+        return path;
+    }
+
+    private static List<AccessTraceEvent> burst(String symbol, long startMicros, int count, long intervalMicros) {
+        List<AccessTraceEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(read(startMicros + i * intervalMicros, symbol));
+        }
+        return events;
+    }
+
+    private static AccessTraceEvent read(long offsetMicros, String symbol) {
+        return new AccessTraceEvent(offsetMicros, AccessTraceEvent.Type.READ, symbol);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.coincache.support.simulation;
+
+import com.example.coincache.config.CacheProperties;
+import com.example.coincache.config.OriginProperties;
+import com.example.coincache.service.ReadStrategy;
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.function.Predicate;
+
+/**
+ * 시뮬레이션 한 번의 전략/설정값 (CacheProperties와 같은 이름과 단위)
+ *
+ * 스윕은 from(...)이나 builder()로 기준값을 만든 뒤 toBuilder()로 한 항목씩 바꿈
+ */
+@Value
+@Builder(toBuilder = true)
+public class SimulationConfig {
+
+    @Builder.Default
+    ReadStrategy strategy = ReadStrategy.LOCK;
+
+    @Builder.Default
+    int baseTtlSeconds = 60;
+
+    @Builder.Default
+    int ttlJitterSeconds = 10;
+
+    @Builder.Default
+    int nullCacheTtlSeconds = 30;
+
+    @Builder.Default
+    int logicalExpireSeconds = 60;
+
+    @Builder.Default
+    int staleTtlBufferSeconds = 30;
+
+    @Builder.Default
+    int lockTimeoutMs = 100;
+
+    @Builder.Default
+    int singleFlightWaitMs = 500;
+
+    @Builder.Default
+    int refreshThreads = 4;
+
+    /**
+     * 원천 조회 지연 (고정값 - 분포는 모델링하지 않음)
+     */
+    @Builder.Default
+    long originLatencyMs = 50;
+
+    /**
+     * 원천에 있는 심볼 (없는 심볼은 Null 캐시 대상)
+     */
+    @Builder.Default
+    Predicate<String> originContains = symbol -> true;
+
+    /**
+     * 켜져 있으면 원천에 없는 심볼은 Bloom Filter에서 걸러져 캐시/원천까지 가지 않음 (오탐은 모델링하지 않음)
+     */
+    @Builder.Default
+    boolean symbolFilter = true;
+
+    /**
+     * 원천 부하 시계열 구간 크기
+     */
+    @Builder.Default
+    long bucketMillis = 1_000;
+
+    /**
+     * TTL Jitter 난수 seed (같은 seed + 같은 트레이스면 같은 결과)
+     */
+    @Builder.Default
+    long seed = 42;
+
+    public static SimulationConfigBuilder from(CacheProperties cache, OriginProperties origin) {
+        return builder()
+                .baseTtlSeconds(cache.getBaseTtlSeconds())
+                .ttlJitterSeconds(cache.getTtlJitterSeconds())
+                .nullCacheTtlSeconds(cache.getNullCacheTtlSeconds())
+                .logicalExpireSeconds(cache.getLogicalExpireSeconds())
+                .staleTtlBufferSeconds(cache.getStaleTtlBufferSeconds())
+                .lockTimeoutMs(cache.getLockTimeoutMs())
+                .singleFlightWaitMs(cache.getSingleFlightWaitMs())
+                .refreshThreads(cache.getRefreshThreads())
+                .symbolFilter(cache.getSymbolFilter().isEnabled())
+                .originLatencyMs(origin.getLatencyMs());
+    }
+}
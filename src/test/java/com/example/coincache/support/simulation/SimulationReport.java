@@ -0,0 +1,81 @@
+package com.example.coincache.support.simulation;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * 시뮬레이션 결과 (시각은 모두 가상 시계 기준, wallClock만 실제 실행 시간)
+ *
+ * @param originCallsPerBucket 구간별 원천 호출 수 (호출 시작 시각 기준, 구간 크기는 bucketMillis)
+ * @param latency              요청 도착부터 값을 받기까지 (마이크로초) - 히트는 0, 락/합류 대기와 원천 지연만 반영
+ * @param staleness            응답한 값의 나이 (밀리초) = 응답 시각 - 원천에서 값을 읽은(또는 푸시된) 시각, Null 제외
+ */
+public record SimulationReport(
+        SimulationConfig config,
+        long events,
+        long reads,
+        long hits,
+        long nullHits,
+        long staleServed,
+        long misses,
+        long blocked,
+        long originCalls,
+        long bucketMillis,
+        long[] originCallsPerBucket,
+        Histogram latency,
+        Histogram staleness,
+        Duration simulated,
+        Duration wallClock
+) {
+
+    /**
+     * CacheMetrics와 같은 기준 - (hit + null-hit + stale-served) / (그 합 + miss)
+     */
+    public double hitRatio() {
+        long served = hits + nullHits + staleServed;
+        long lookups = served + misses;
+        return lookups == 0 ? 0 : (double) served / lookups;
+    }
+
+    public double originQps() {
+        return originCalls / seconds(simulated);
+    }
+
+    public double peakOriginQps() {
+        long peak = 0;
+        for (long calls : originCallsPerBucket) {
+            peak = Math.max(peak, calls);
+        }
+        return peak * 1_000d / bucketMillis;
+    }
+
+    public double eventsPerSecond() {
+        return events / seconds(wallClock);
+    }
+
+    public double latencyMs(double percentile) {
+        return latency.getValueAtPercentile(percentile) / 1_000d;
+    }
+
+    public double stalenessMs(double percentile) {
+        return staleness.getValueAtPercentile(percentile);
+    }
+
+    public String summary() {
+        return String.format(
+                "%s ttl=%d+%ds null=%ds logical=%ds: hitRatio=%.4f, origin=%d (avg %.1f/s, peak %.1f/s), "
+                        + "latency p99=%.2f max=%.2f ms, staleness p50=%.0f p99=%.0f max=%d ms, "
+                        + "%d events in %d ms (%.0f/s)",
+                config.getStrategy(), config.getBaseTtlSeconds(), config.getTtlJitterSeconds(),
+                config.getNullCacheTtlSeconds(), config.getLogicalExpireSeconds(),
+                hitRatio(), originCalls, originQps(), peakOriginQps(),
+                latencyMs(99), latency.getMaxValue() / 1_000d,
+                stalenessMs(50), stalenessMs(99), staleness.getMaxValue(),
+                events, wallClock.toMillis(), eventsPerSecond());
+    }
+
+    private static double seconds(Duration duration) {
+        return Math.max(duration.toNanos(), 1) / 1_000_000_000d;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.coincache.support.workload;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 워크로드 키 분포 - 키 목록의 인덱스(0 = 가장 인기 있는 키)를 뽑음
+ */
+public interface KeyDistribution {
+
+    int nextIndex(RandomGenerator random);
+
+    int size();
+
+    static KeyDistribution uniform(int size) {
+        return new KeyDistribution() {
+            @Override
+            public int nextIndex(RandomGenerator random) {
+                return random.nextInt(size);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    /**
+     * 순위 k의 확률이 1/k^exponent에 비례 (exponent 1 근처가 실제 시세 트래픽과 비슷)
+     */
+    static KeyDistribution zipf(int size, double exponent) {
+        return new ZipfDistribution(size, exponent);
+    }
+
+    /**
+     * 키의 hotKeyFraction이 요청의 hotRequestFraction을 받고, 각 그룹 안에서는 균등
+     * (예: 0.2, 0.8 = 20% 키가 80% 요청)
+     */
+    static KeyDistribution hotspot(int size, double hotKeyFraction, double hotRequestFraction) {
+        int hotKeys = Math.max(1, Math.min(size, (int) Math.round(size * hotKeyFraction)));
+        return new KeyDistribution() {
+            @Override
+            public int nextIndex(RandomGenerator random) {
+                if (hotKeys == size || random.nextDouble() < hotRequestFraction) {
+                    return random.nextInt(hotKeys);
+                }
+                return hotKeys + random.nextInt(size - hotKeys);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.coincache.support.workload;
+
+/**
+ * 워크로드 요청 종류
+ */
+public enum Operation {
+
+    /**
+     * 시세 조회
+     */
+    READ,
+
+    /**
+     * 강제 갱신 (Push 기반 갱신 흉내)
+     */
+    REFRESH,
+
+    /**
+     * 캐시 삭제
+     */
+    EVICT
+}
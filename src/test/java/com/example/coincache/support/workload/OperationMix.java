@@ -0,0 +1,26 @@
+package com.example.coincache.support.workload;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * 조회/갱신/삭제 비율 (합이 1이 아니어도 비율로 환산)
+ */
+public record OperationMix(double read, double refresh, double evict) {
+
+    public static final OperationMix READ_ONLY = new OperationMix(1, 0, 0);
+
+    public OperationMix {
+        if (read < 0 || refresh < 0 || evict < 0 || read + refresh + evict <= 0) {
+            throw new IllegalArgumentException("invalid operation mix: " + read + "/" + refresh + "/" + evict);
+        }
+    }
+
+    public Operation next(RandomGenerator random) {
+        double total = read + refresh + evict;
+        double pick = random.nextDouble() * total;
+        if (pick < read) {
+            return Operation.READ;
+        }
+        return pick < read + refresh ? Operation.REFRESH : Operation.EVICT;
+    }
+}
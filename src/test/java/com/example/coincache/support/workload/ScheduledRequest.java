@@ -0,0 +1,7 @@
+package com.example.coincache.support.workload;
+
+/**
+ * 실행 시작 시각으로부터 offsetNanos 뒤에 보낼 요청 하나
+ */
+public record ScheduledRequest(long offsetNanos, Operation operation, String symbol) {
+}
@@ -0,0 +1,57 @@
+package com.example.coincache.support.workload;
+
+import com.example.coincache.trace.AccessTraceEvent;
+import com.example.coincache.trace.AccessTraceFile;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기록된 접근 트레이스를 원래 간격(또는 배속)대로 다시 보내 전략/설정별 결과를 비교
+ *
+ * - speed 1.0이면 기록 당시 간격 그대로, 2.0이면 간격을 절반으로 줄여 두 배 부하
+ * - 첫 이벤트 시각을 0으로 맞춰 기록 시작 직후의 빈 구간은 재생하지 않음
+ * - 발송/측정은 WorkloadGenerator.runSchedule (OPEN_LOOP, 예정 시각 기준 지연)
+ */
+@RequiredArgsConstructor
+public class TraceReplayer {
+
+    private final WorkloadGenerator generator;
+
+    public WorkloadReport replay(Path trace, double speed, WorkloadTarget target)
+            throws IOException, InterruptedException {
+        return replay(AccessTraceFile.readAll(trace), speed, target);
+    }
+
+    public WorkloadReport replay(List<AccessTraceEvent> events, double speed, WorkloadTarget target)
+            throws InterruptedException {
+        return generator.runSchedule(schedule(events, speed), target);
+    }
+
+    public static List<ScheduledRequest> schedule(List<AccessTraceEvent> events, double speed) {
+        if (!(speed > 0)) {
+            throw new IllegalArgumentException("speed must be positive: " + speed);
+        }
+        List<ScheduledRequest> schedule = new ArrayList<>(events.size());
+        if (events.isEmpty()) {
+            return schedule;
+        }
+        long base = events.get(0).offsetMicros();
+        for (AccessTraceEvent event : events) {
+            long offsetNanos = (long) ((event.offsetMicros() - base) * 1_000 / speed);
+            schedule.add(new ScheduledRequest(offsetNanos, toOperation(event.type()), event.symbol()));
+        }
+        return schedule;
+    }
+
+    private static Operation toOperation(AccessTraceEvent.Type type) {
+        return switch (type) {
+            case READ -> Operation.READ;
+            case REFRESH -> Operation.REFRESH;
+            case EVICT -> Operation.EVICT;
+        };
+    }
+}
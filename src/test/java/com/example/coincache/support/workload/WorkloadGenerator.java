@@ -0,0 +1,216 @@
+package com.example.coincache.support.workload;
+
+import com.example.coincache.repository.InMemoryCoinQuoteRepository;
+import com.example.coincache.service.CacheMetrics;
+import com.example.coincache.service.CacheOutcome;
+import com.example.coincache.service.ReadStrategy;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 편향된 키 분포 + 요청 혼합 + 도착 모델로 캐시를 부하하고 히트율/원천 QPS/보정 지연을 보고
+ *
+ * - 지연은 예정 시각 기준으로 기록해 coordinated omission을 보정
+ *   (느린 응답 때문에 못 보낸 요청의 대기 시간이 빠지지 않음 - OPEN_LOOP, 목표율이 있는 CLOSED_LOOP)
+ * - OPEN_LOOP는 요청마다 가상 스레드를 써서 응답 대기가 다음 요청 발송을 막지 않음
+ * - 히트율은 CacheMetrics, 원천 호출 수는 repository 조회 횟수의 실행 전후 차이
+ * - runSchedule은 미리 정해 둔 요청 목록(트레이스 재생 등)을 오프셋대로 OPEN_LOOP 발송
+ */
+@RequiredArgsConstructor
+public class WorkloadGenerator {
+
+    private static final long LOWEST_DISCERNIBLE_NANOS = 1_000;
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    private final CacheMetrics metrics;
+    private final InMemoryCoinQuoteRepository repository;
+
+    public WorkloadReport run(WorkloadSpec spec, WorkloadTarget target) throws InterruptedException {
+        if (spec.getDistribution().size() > spec.getSymbols().size()) {
+            throw new IllegalArgumentException("distribution is larger than symbol list");
+        }
+        if (spec.getArrival() == WorkloadSpec.Arrival.OPEN_LOOP && spec.getRatePerSecond() <= 0) {
+            throw new IllegalArgumentException("open loop requires ratePerSecond");
+        }
+
+        return measure(target, (run, start) -> {
+            if (spec.getArrival() == WorkloadSpec.Arrival.OPEN_LOOP) {
+                runOpenLoop(spec, run, start);
+            } else {
+                runClosedLoop(spec, run, start);
+            }
+        });
+    }
+
+    /**
+     * 요청마다 정해진 오프셋에 발송 (지연은 오프셋 기준 예정 시각부터 기록)
+     *
+     * @param schedule 오프셋 오름차순
+     */
+    public WorkloadReport runSchedule(List<ScheduledRequest> schedule, WorkloadTarget target)
+            throws InterruptedException {
+        return measure(target, (run, start) -> {
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (ScheduledRequest request : schedule) {
+                    long intended = start + request.offsetNanos();
+                    waitUntil(intended);
+                    executor.execute(() -> run.execute(request.operation(), request.symbol(), intended));
+                }
+            }
+        });
+    }
+
+    private WorkloadReport measure(WorkloadTarget target, Dispatch dispatch) throws InterruptedException {
+        Run run = new Run(target);
+        long hitsBefore = hits();
+        long missesBefore = misses();
+        long originBefore = repository.getQueryCount();
+
+        long start = System.nanoTime();
+        dispatch.run(run, start);
+        long elapsed = System.nanoTime() - start;
+
+        long hits = hits() - hitsBefore;
+        long lookups = hits + misses() - missesBefore;
+        return new WorkloadReport(
+                Duration.ofNanos(elapsed),
+                run.operations.sum(),
+                run.reads.sum(),
+                run.errors.sum(),
+                lookups == 0 ? 0 : (double) hits / lookups,
+                repository.getQueryCount() - originBefore,
+                run.latency.getIntervalHistogram(),
+                run.serviceTime.getIntervalHistogram());
+    }
+
+    private void runOpenLoop(WorkloadSpec spec, Run run, long start) {
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        double intervalNanos = 1_000_000_000d / spec.getRatePerSecond();
+        long total = (long) (spec.getDuration().toNanos() / intervalNanos);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intended = start + (long) (i * intervalNanos);
+                waitUntil(intended);
+                Operation operation = spec.getMix().next(random);
+                String symbol = nextSymbol(spec, random);
+                executor.execute(() -> run.execute(operation, symbol, intended));
+            }
+        }
+    }
+
+    private void runClosedLoop(WorkloadSpec spec, Run run, long start) throws InterruptedException {
+        int workers = spec.getConcurrency();
+        long deadline = start + spec.getDuration().toNanos();
+        double intervalNanos = spec.getRatePerSecond() > 0 ? workers * 1_000_000_000d / spec.getRatePerSecond() : 0;
+        SplittableRandom root = new SplittableRandom(spec.getSeed());
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers);
+        for (int w = 0; w < workers; w++) {
+            SplittableRandom random = root.split();
+            // 작업자 시작 시각을 간격 안에서 엇갈리게 둬서 요청이 한꺼번에 몰리지 않게 함
+            long offset = (long) (intervalNanos * w / workers);
+            executor.execute(() -> {
+                for (long i = 0; ; i++) {
+                    long intended = intervalNanos > 0 ? start + offset + (long) (i * intervalNanos) : System.nanoTime();
+                    if (intended >= deadline) {
+                        return;
+                    }
+                    waitUntil(intended);
+                    run.execute(spec.getMix().next(random), nextSymbol(spec, random), intended);
+                }
+            });
+        }
+        executor.shutdown();
+        if (!executor.awaitTermination(spec.getDuration().toSeconds() + 60, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            throw new IllegalStateException("Workload run timed out");
+        }
+    }
+
+    private static String nextSymbol(WorkloadSpec spec, SplittableRandom random) {
+        return spec.getSymbols().get(spec.getDistribution().nextIndex(random));
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+    private long hits() {
+        long hits = 0;
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            hits += metrics.count(strategy, CacheOutcome.HIT)
+                    + metrics.count(strategy, CacheOutcome.NULL_HIT)
+                    + metrics.count(strategy, CacheOutcome.STALE_SERVED);
+        }
+        return hits;
+    }
+
+    private long misses() {
+        long misses = 0;
+        for (ReadStrategy strategy : ReadStrategy.values()) {
+            misses += metrics.count(strategy, CacheOutcome.MISS);
+        }
+        return misses;
+    }
+
+    @FunctionalInterface
+    private interface Dispatch {
+
+        void run(Run run, long startNanos) throws InterruptedException;
+    }
+
+    /**
+     * 실행 한 번의 기록 상태 (Recorder는 여러 스레드가 동시에 기록해도 됨)
+     */
+    private static final class Run {
+
+        private final WorkloadTarget target;
+        private final Recorder latency = newRecorder();
+        private final Recorder serviceTime = newRecorder();
+        private final LongAdder operations = new LongAdder();
+        private final LongAdder reads = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        private Run(WorkloadTarget target) {
+            this.target = target;
+        }
+
+        private void execute(Operation operation, String symbol, long intendedStart) {
+            long actualStart = System.nanoTime();
+            try {
+                target.execute(operation, symbol);
+            } catch (RuntimeException e) {
+                errors.increment();
+            }
+            long end = System.nanoTime();
+            latency.recordValue(clamp(end - intendedStart));
+            serviceTime.recordValue(clamp(end - actualStart));
+            operations.increment();
+            if (operation == Operation.READ) {
+                reads.increment();
+            }
+        }
+
+        private static long clamp(long nanos) {
+            return Math.min(Math.max(nanos, 0), HIGHEST_TRACKABLE_NANOS);
+        }
+
+        private static Recorder newRecorder() {
+            return new Recorder(LOWEST_DISCERNIBLE_NANOS, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+        }
+    }
+}
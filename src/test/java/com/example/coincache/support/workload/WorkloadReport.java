@@ -0,0 +1,55 @@
+package com.example.coincache.support.workload;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+
+/**
+ * 워크로드 실행 결과
+ *
+ * @param latency     예정 시각부터 응답까지 (coordinated omission 보정 - 밀린 대기 시간 포함)
+ * @param serviceTime 실제 호출 시작부터 응답까지 (보정 전)
+ * @param hitRatio    캐시 경로 메트릭 기준 (hit + null-hit + stale-served) / (그 합 + miss)
+ */
+public record WorkloadReport(
+        Duration elapsed,
+        long operations,
+        long reads,
+        long errors,
+        double hitRatio,
+        long originQueries,
+        Histogram latency,
+        Histogram serviceTime
+) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+
+    public double throughput() {
+        return operations / seconds();
+    }
+
+    public double originQps() {
+        return originQueries / seconds();
+    }
+
+    public double latencyMs(double percentile) {
+        return latency.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public double serviceTimeMs(double percentile) {
+        return serviceTime.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+    public String summary() {
+        return String.format(
+                "ops=%d (%.0f/s), hitRatio=%.3f, originQps=%.1f, errors=%d, "
+                        + "latency p50=%.2f p99=%.2f p999=%.2f max=%.2f ms, serviceTime p50=%.2f p99=%.2f ms",
+                operations, throughput(), hitRatio, originQps(), errors,
+                latencyMs(50), latencyMs(99), latencyMs(99.9), latency.getMaxValue() / NANOS_PER_MILLI,
+                serviceTimeMs(50), serviceTimeMs(99));
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toNanos(), 1) / 1_000_000_000d;
+    }
+}
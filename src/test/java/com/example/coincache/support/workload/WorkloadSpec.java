@@ -0,0 +1,58 @@
+package com.example.coincache.support.workload;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 워크로드 정의
+ *
+ * - OPEN_LOOP: ratePerSecond 간격으로 예정 시각에 요청을 보냄 (응답이 늦어도 다음 요청은 제시간에 나감)
+ * - CLOSED_LOOP: concurrency개 작업자가 응답을 받은 뒤 다음 요청을 보냄
+ *   ratePerSecond > 0이면 작업자마다 예정 시각을 두고 그보다 빠르면 기다림, 0이면 쉬지 않고 보냄
+ */
+@Value
+@Builder
+public class WorkloadSpec {
+
+    public enum Arrival {
+        OPEN_LOOP,
+        CLOSED_LOOP
+    }
+
+    /**
+     * 요청 대상 심볼 (distribution 인덱스 순서 = 인기 순)
+     */
+    List<String> symbols;
+
+    KeyDistribution distribution;
+
+    @Builder.Default
+    OperationMix mix = OperationMix.READ_ONLY;
+
+    @Builder.Default
+    Arrival arrival = Arrival.CLOSED_LOOP;
+
+    /**
+     * 전체 목표 요청률 (OPEN_LOOP는 필수)
+     */
+    @Builder.Default
+    double ratePerSecond = 0;
+
+    /**
+     * CLOSED_LOOP 작업자 수
+     */
+    @Builder.Default
+    int concurrency = 8;
+
+    @Builder.Default
+    Duration duration = Duration.ofSeconds(1);
+
+    /**
+     * 같은 seed면 같은 키/요청 순서 (작업자별로 분리된 난수열)
+     */
+    @Builder.Default
+    long seed = 42;
+}
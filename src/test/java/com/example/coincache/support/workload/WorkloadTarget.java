@@ -0,0 +1,62 @@
+package com.example.coincache.support.workload;
+
+import com.example.coincache.controller.QuoteController;
+import com.example.coincache.domain.CoinQuote;
+import com.example.coincache.service.QuoteCacheService;
+import com.example.coincache.service.ReadStrategy;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 워크로드가 요청을 보내는 대상
+ */
+@FunctionalInterface
+public interface WorkloadTarget {
+
+    void execute(Operation operation, String symbol);
+
+    /**
+     * 서비스 직접 호출 - READ는 지정한 전략으로 조회
+     */
+    static WorkloadTarget service(QuoteCacheService service, ReadStrategy strategy) {
+        return (operation, symbol) -> {
+            switch (operation) {
+                case READ -> {
+                    switch (strategy) {
+                        case LOCK -> service.getQuoteWithDistributedLock(symbol);
+                        case SINGLE_FLIGHT -> service.getQuoteWithSingleFlight(symbol);
+                        case LOGICAL_EXPIRE -> service.getQuoteWithLogicalExpire(symbol);
+                    }
+                }
+                case REFRESH -> service.refreshCache(symbol, refreshedQuote(symbol));
+                case EVICT -> service.evictCache(symbol);
+            }
+        };
+    }
+
+    /**
+     * 컨트롤러 핸들러 호출 (심볼 대문자 변환, ResponseEntity 생성까지 포함, HTTP 계층은 제외)
+     */
+    static WorkloadTarget controller(QuoteController controller) {
+        return (operation, symbol) -> {
+            switch (operation) {
+                case READ -> controller.getQuote(symbol);
+                case REFRESH -> controller.refreshCache(symbol, refreshedQuote(symbol));
+                case EVICT -> controller.evictCache(symbol);
+            }
+        };
+    }
+
+    private static CoinQuote refreshedQuote(String symbol) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return CoinQuote.builder()
+                .symbol(symbol)
+                .price(BigDecimal.valueOf(random.nextLong(1, 100_000_00), 2))
+                .change24h(BigDecimal.valueOf(random.nextInt(-500, 500), 2))
+                .volume24h(new BigDecimal("1000000"))
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.coincache.support.workload;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 샘플러 (rejection-inversion, Hörmann & Derflinger 1996)
+ *
+ * - 누적 확률표 없이 O(1) 메모리, 샘플당 평균 1회 남짓 시도
+ * - 키 수가 수백만이어도 준비 비용이 없음
+ */
+final class ZipfDistribution implements KeyDistribution {
+
+    private final int size;
+    private final double exponent;
+    private final double hIntegralX1;
+    private final double hIntegralSize;
+    private final double squeeze;
+
+    ZipfDistribution(int size, double exponent) {
+        if (size < 1) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (exponent <= 0) {
+            throw new IllegalArgumentException("exponent must be positive: " + exponent);
+        }
+        this.size = size;
+        this.exponent = exponent;
+        this.hIntegralX1 = hIntegral(1.5) - 1.0;
+        this.hIntegralSize = hIntegral(size + 0.5);
+        this.squeeze = 2 - hIntegralInverse(hIntegral(2.5) - h(2));
+    }
+
+    @Override
+    public int nextIndex(RandomGenerator random) {
+        while (true) {
+            double u = hIntegralSize + random.nextDouble() * (hIntegralX1 - hIntegralSize);
+            double x = hIntegralInverse(u);
+            int rank = (int) (x + 0.5);
+            if (rank < 1) {
+                rank = 1;
+            } else if (rank > size) {
+                rank = size;
+            }
+            if (rank - x <= squeeze || u >= hIntegral(rank + 0.5) - h(rank)) {
+                return rank - 1;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private double h(double x) {
+        return Math.exp(-exponent * Math.log(x));
+    }
+
+    private double hIntegral(double x) {
+        double logX = Math.log(x);
+        return expm1OverX((1 - exponent) * logX) * logX;
+    }
+
+    private double hIntegralInverse(double x) {
+        double t = Math.max(-1, x * (1 - exponent));
+        return Math.exp(log1pOverX(t) * x);
+    }
+
+    /**
+     * log(1+x)/x - 0 근처는 테일러 전개로 정밀도 유지
+     */
+    private static double log1pOverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.log1p(x) / x : 1 - x * (0.5 - x * (1 / 3.0 - 0.25 * x));
+    }
+
+    /**
+     * (e^x-1)/x - 0 근처는 테일러 전개로 정밀도 유지
+     */
+    private static double expm1OverX(double x) {
+        return Math.abs(x) > 1e-8 ? Math.expm1(x) / x : 1 + x * 0.5 * (1 + x / 3.0 * (1 + 0.25 * x));
+    }
+}